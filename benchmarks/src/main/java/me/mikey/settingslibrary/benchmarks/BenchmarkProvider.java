@@ -0,0 +1,51 @@
+package me.mikey.settingslibrary.benchmarks;
+
+import me.mikey.settingslibrary.api.SettingsProvider;
+import me.mikey.settingslibrary.util.ItemBuilder;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+
+final class BenchmarkProvider implements SettingsProvider {
+
+    private final Plugin plugin;
+    private final String settingsId;
+    private final ItemStack displayItem;
+    private final int priority;
+
+    BenchmarkProvider(Plugin plugin, String settingsId, Material material, int priority) {
+        this.plugin = plugin;
+        this.settingsId = settingsId;
+        this.displayItem = new ItemBuilder(material)
+                .name("&b" + settingsId)
+                .lore("&7Benchmark provider", "&8Priority " + priority)
+                .build();
+        this.priority = priority;
+    }
+
+    @Override
+    public Plugin getPlugin() {
+        return plugin;
+    }
+
+    @Override
+    public String getSettingsId() {
+        return settingsId;
+    }
+
+    @Override
+    public ItemStack getDisplayItem() {
+        return displayItem;
+    }
+
+    @Override
+    public void onClick(Player player, ClickType clickType) {
+    }
+
+    @Override
+    public int getPriority() {
+        return priority;
+    }
+}
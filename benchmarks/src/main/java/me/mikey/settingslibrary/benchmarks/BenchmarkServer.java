@@ -0,0 +1,68 @@
+package me.mikey.settingslibrary.benchmarks;
+
+import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.api.SettingsProvider;
+import org.bukkit.Material;
+import org.bukkit.plugin.Plugin;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkServer {
+
+    private static final Material[] ICONS = {
+            Material.BOOK, Material.COMPASS, Material.CLOCK, Material.PAPER, Material.NAME_TAG, Material.CHEST
+    };
+
+    private final ServerMock server;
+    private final SettingsLibraryPlugin plugin;
+    private final PlayerMock player;
+
+    private BenchmarkServer(ServerMock server, SettingsLibraryPlugin plugin, PlayerMock player) {
+        this.server = server;
+        this.plugin = plugin;
+        this.player = player;
+    }
+
+    static BenchmarkServer start(int providerCount) {
+        ServerMock server = MockBukkit.mock();
+        SettingsLibraryPlugin plugin = MockBukkit.load(SettingsLibraryPlugin.class);
+
+        plugin.getConfig().set("gui.open-sound.enabled", false);
+        plugin.getConfig().set("gui.click-sound.enabled", false);
+        plugin.getConfig().set("profiling.slow-call-threshold-ms", 0);
+        plugin.saveConfig();
+        plugin.getConfigManager().reloadAll();
+        plugin.getGUIManager().rebuildDecoratorCache();
+
+        Plugin owner = MockBukkit.createMockPlugin("BenchmarkOwner");
+        List<SettingsProvider> providers = new ArrayList<>(providerCount);
+        for (int i = 0; i < providerCount; i++) {
+            providers.add(new BenchmarkProvider(owner, "bench-" + i, ICONS[i % ICONS.length], i % 50));
+        }
+        plugin.getAPI().registerProviders(providers);
+
+        PlayerMock player = server.addPlayer();
+        server.getScheduler().performOneTick();
+        return new BenchmarkServer(server, plugin, player);
+    }
+
+    void tick() {
+        server.getScheduler().performOneTick();
+    }
+
+    void stop() {
+        MockBukkit.unmock();
+    }
+
+    SettingsLibraryPlugin plugin() {
+        return plugin;
+    }
+
+    PlayerMock player() {
+        return player;
+    }
+}
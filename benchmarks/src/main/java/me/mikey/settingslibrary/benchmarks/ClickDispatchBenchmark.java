@@ -0,0 +1,70 @@
+package me.mikey.settingslibrary.benchmarks;
+
+import me.mikey.settingslibrary.gui.GUIListener;
+import me.mikey.settingslibrary.gui.GUIManager.SettingsMenuHolder;
+import me.mikey.settingslibrary.gui.GUIManager.SlotType;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.InventoryView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClickDispatchBenchmark {
+
+    private BenchmarkServer server;
+    private GUIListener listener;
+    private InventoryClickEvent decorationClick;
+    private InventoryClickEvent pluginClick;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = BenchmarkServer.start(100);
+        listener = new GUIListener(server.plugin());
+
+        server.plugin().getGUIManager().openMainMenu(server.player());
+        server.tick();
+
+        SettingsMenuHolder holder = server.plugin().getGUIManager().getMenuHolder(server.player());
+        InventoryView view = server.player().getOpenInventory();
+        decorationClick = clickEvent(view, findSlot(holder, SlotType.BORDER));
+        pluginClick = clickEvent(view, findSlot(holder, SlotType.PLUGIN));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public void clickDecoration() {
+        listener.onInventoryClick(decorationClick);
+    }
+
+    @Benchmark
+    public void clickPlugin() {
+        listener.onInventoryClick(pluginClick);
+    }
+
+    private static InventoryClickEvent clickEvent(InventoryView view, int slot) {
+        return new InventoryClickEvent(view, InventoryType.SlotType.CONTAINER, slot, ClickType.LEFT,
+                InventoryAction.PICKUP_ALL);
+    }
+
+    private static int findSlot(SettingsMenuHolder holder, SlotType type) {
+        for (int slot = 0; slot < holder.getSize(); slot++) {
+            if (holder.getSlotType(slot) == type) {
+                return slot;
+            }
+        }
+        throw new IllegalStateException("No " + type + " slot in the main menu");
+    }
+}
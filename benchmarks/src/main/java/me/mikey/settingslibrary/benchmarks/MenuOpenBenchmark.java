@@ -0,0 +1,45 @@
+package me.mikey.settingslibrary.benchmarks;
+
+import me.mikey.settingslibrary.gui.GUIManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MenuOpenBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int providers;
+
+    private BenchmarkServer server;
+    private GUIManager guiManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = BenchmarkServer.start(providers);
+        guiManager = server.plugin().getGUIManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public void openMainMenu() {
+        guiManager.openMainMenu(server.player());
+        server.tick();
+    }
+
+    @Benchmark
+    public void openMainMenuRebuildFrame() {
+        guiManager.invalidateFrame();
+        guiManager.openMainMenu(server.player());
+        server.tick();
+    }
+}
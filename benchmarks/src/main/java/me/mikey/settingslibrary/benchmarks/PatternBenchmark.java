@@ -0,0 +1,40 @@
+package me.mikey.settingslibrary.benchmarks;
+
+import me.mikey.settingslibrary.config.ConfigManager.GUITemplate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatternBenchmark {
+
+    private GUITemplate template;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        template = new GUITemplate("default", "Default", "Benchmark template", 54, List.of(
+                "B B B B B B B B B",
+                "B P P P P P P P B",
+                "B P P P P P P P B",
+                "B P P P P P P P B",
+                "B P P P P P P P B",
+                "B B B B C B B B B"));
+    }
+
+    @Benchmark
+    public Map<Integer, Character> parsePattern() {
+        return template.parsePattern();
+    }
+
+    @Benchmark
+    public char[] compilePattern() {
+        return template.compilePattern();
+    }
+}
@@ -0,0 +1,51 @@
+package me.mikey.settingslibrary.benchmarks;
+
+import me.mikey.settingslibrary.api.SettingsProvider;
+import me.mikey.settingslibrary.manager.ProviderRegistry;
+import org.bukkit.Material;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProviderSortBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int providers;
+
+    private BenchmarkServer server;
+    private ProviderRegistry registry;
+    private SettingsProvider extra;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = BenchmarkServer.start(providers);
+        registry = server.plugin().getIntegrationManager().getRegistry();
+        extra = new BenchmarkProvider(MockBukkit.createMockPlugin("BenchmarkExtra"), "bench-extra",
+                Material.BOOK, 25);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public ProviderRegistry.Snapshot resort() {
+        registry.resort();
+        return registry.snapshot();
+    }
+
+    @Benchmark
+    public ProviderRegistry.Snapshot addAndRemove() {
+        registry.add("bench-extra", extra);
+        registry.remove("bench-extra");
+        return registry.snapshot();
+    }
+}
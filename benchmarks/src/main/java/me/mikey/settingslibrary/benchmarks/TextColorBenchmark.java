@@ -0,0 +1,50 @@
+package me.mikey.settingslibrary.benchmarks;
+
+import me.mikey.settingslibrary.manager.TextColorManager;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TextColorBenchmark {
+
+    @Param({
+            "Open the settings menu",
+            "&8&l✦ &b&lSettings &8&l✦",
+            "&#55FFFFCyan &#FF5555red &7and &fwhite",
+    })
+    public String text;
+
+    private static final int UNIQUE_INPUTS = 4096;
+
+    private TextColorManager textColorManager;
+    private String[] uniqueTexts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        textColorManager = new TextColorManager();
+
+        uniqueTexts = new String[UNIQUE_INPUTS];
+        for (int i = 0; i < UNIQUE_INPUTS; i++) {
+            uniqueTexts[i] = text + " &7#" + i;
+        }
+    }
+
+    @Benchmark
+    public String process() {
+        return textColorManager.process(text);
+    }
+
+    @Benchmark
+    public String processUncached() {
+        String input = uniqueTexts[next];
+        next = (next + 1) % UNIQUE_INPUTS;
+        return textColorManager.process(input);
+    }
+}
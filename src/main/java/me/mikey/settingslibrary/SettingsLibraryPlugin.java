@@ -5,16 +5,22 @@ import me.mikey.settingslibrary.api.SettingsLibraryAPIImpl;
 import me.mikey.settingslibrary.commands.SettingsCommand;
 import me.mikey.settingslibrary.commands.SettingsLibraryCommand;
 import me.mikey.settingslibrary.config.ConfigManager;
+import me.mikey.settingslibrary.config.ConfigWatcher;
 import me.mikey.settingslibrary.gui.GUIListener;
 import me.mikey.settingslibrary.gui.GUIManager;
+import me.mikey.settingslibrary.listeners.PlayerListener;
 import me.mikey.settingslibrary.listeners.PluginListener;
+import me.mikey.settingslibrary.manager.PlaceholderManager;
 import me.mikey.settingslibrary.manager.PluginIntegrationManager;
 import me.mikey.settingslibrary.manager.TextColorManager;
+import me.mikey.settingslibrary.storage.PlayerDataStore;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.ServicePriority;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.TimeUnit;
+
 public class SettingsLibraryPlugin extends JavaPlugin {
 
     private static SettingsLibraryPlugin instance;
@@ -23,9 +29,13 @@ public class SettingsLibraryPlugin extends JavaPlugin {
     private GUIManager guiManager;
     private PluginIntegrationManager integrationManager;
     private TextColorManager textColorManager;
+    private PlaceholderManager placeholderManager;
+    private ConfigWatcher configWatcher;
+    private PlayerDataStore playerDataStore;
 
     private PluginListener pluginListener;
     private GUIListener guiListener;
+    private PlayerListener playerListener;
 
     private SettingsLibraryAPI api;
 
@@ -45,6 +55,7 @@ public class SettingsLibraryPlugin extends JavaPlugin {
         registerAPI();
         registerCommands();
         registerListeners();
+        updateConfigWatcher();
 
         Bukkit.getScheduler().runTaskLater(this, () -> {
             pluginListener.onSettingsLibraryReady();
@@ -75,6 +86,18 @@ public class SettingsLibraryPlugin extends JavaPlugin {
             });
         }
 
+        if (configWatcher != null) {
+            configWatcher.stop();
+        }
+
+        if (playerDataStore != null) {
+            playerDataStore.shutdown(10, TimeUnit.SECONDS);
+        }
+
+        if (configManager != null) {
+            configManager.shutdown();
+        }
+
         getLogger().info("SettingsLibrary - Disabled successfully!");
         instance = null;
     }
@@ -82,12 +105,16 @@ public class SettingsLibraryPlugin extends JavaPlugin {
     private void initializeManagers() {
         configManager = new ConfigManager(this);
         textColorManager = new TextColorManager();
+        placeholderManager = new PlaceholderManager(this);
         integrationManager = new PluginIntegrationManager(this);
         guiManager = new GUIManager(this);
+        configWatcher = new ConfigWatcher(this);
+        playerDataStore = new PlayerDataStore(getDataFolder().toPath().resolve("playerdata"), getLogger());
     }
 
     private void loadConfiguration() {
         configManager.loadAll();
+        playerDataStore.load();
     }
 
     private void initializeGUI() {
@@ -123,9 +150,22 @@ public class SettingsLibraryPlugin extends JavaPlugin {
     private void registerListeners() {
         pluginListener = new PluginListener(this);
         guiListener = new GUIListener(this);
+        playerListener = new PlayerListener(playerDataStore);
 
         Bukkit.getPluginManager().registerEvents(pluginListener, this);
         Bukkit.getPluginManager().registerEvents(guiListener, this);
+        Bukkit.getPluginManager().registerEvents(playerListener, this);
+        Bukkit.getPluginManager().registerEvents(guiManager.getSearchPrompt(), this);
+
+        playerListener.trackOnlinePlayers();
+    }
+
+    public void updateConfigWatcher() {
+        if (configManager.isWatchFiles()) {
+            configWatcher.start();
+        } else {
+            configWatcher.stop();
+        }
     }
 
     private String padRight(String s, int n) {
@@ -136,6 +176,10 @@ public class SettingsLibraryPlugin extends JavaPlugin {
         return instance;
     }
 
+    public PlayerDataStore getPlayerDataStore() {
+        return playerDataStore;
+    }
+
     public ConfigManager getConfigManager() {
         return configManager;
     }
@@ -152,6 +196,10 @@ public class SettingsLibraryPlugin extends JavaPlugin {
         return textColorManager;
     }
 
+    public PlaceholderManager getPlaceholderManager() {
+        return placeholderManager;
+    }
+
     public SettingsLibraryAPI getAPI() {
         return api;
     }
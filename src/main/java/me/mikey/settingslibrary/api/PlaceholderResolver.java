@@ -0,0 +1,19 @@
+package me.mikey.settingslibrary.api;
+
+import org.bukkit.entity.Player;
+
+@FunctionalInterface
+public interface PlaceholderResolver {
+
+    String resolve(Player player);
+
+    default Scope getScope() {
+        return Scope.PLAYER;
+    }
+
+    enum Scope {
+        STATIC,
+        TICK,
+        PLAYER
+    }
+}
@@ -0,0 +1,37 @@
+package me.mikey.settingslibrary.api;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public interface PlayerSettingsStore {
+
+    boolean isLoaded(UUID playerId);
+
+    CompletableFuture<Void> load(UUID playerId);
+
+    Optional<String> get(UUID playerId, String key);
+
+    String getString(UUID playerId, String key, String defaultValue);
+
+    boolean getBoolean(UUID playerId, String key, boolean defaultValue);
+
+    int getInt(UUID playerId, String key, int defaultValue);
+
+    double getDouble(UUID playerId, String key, double defaultValue);
+
+    void set(UUID playerId, String key, String value);
+
+    void setBoolean(UUID playerId, String key, boolean value);
+
+    void setInt(UUID playerId, String key, int value);
+
+    void setDouble(UUID playerId, String key, double value);
+
+    boolean toggle(UUID playerId, String key, boolean defaultValue);
+
+    void remove(UUID playerId, String key);
+
+    Map<String, String> getAll(UUID playerId);
+}
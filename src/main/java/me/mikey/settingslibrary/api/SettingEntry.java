@@ -1,17 +1,21 @@
 package me.mikey.settingslibrary.api;
 
+import me.mikey.settingslibrary.util.ItemTemplate;
 import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 public class SettingEntry {
 
     private final String id;
     private final SettingType type;
-    private final Supplier<ItemStack> itemSupplier;
+    private final Function<Player, ItemStack> itemRenderer;
+    private final boolean viewerDependent;
     private final SettingClickHandler clickHandler;
     private final String permission;
     private final int slot;
@@ -19,7 +23,8 @@ public class SettingEntry {
     private SettingEntry(Builder builder) {
         this.id = builder.id;
         this.type = builder.type;
-        this.itemSupplier = builder.itemSupplier;
+        this.itemRenderer = builder.itemRenderer;
+        this.viewerDependent = builder.viewerDependent;
         this.clickHandler = builder.clickHandler;
         this.permission = builder.permission;
         this.slot = builder.slot;
@@ -36,6 +41,22 @@ public class SettingEntry {
                 .build();
     }
 
+    public static SettingEntry toggle(String id, Supplier<ItemStack> itemSupplier,
+                                       Predicate<Player> getter, BiConsumer<Player, Boolean> setter) {
+        return new Builder(id, SettingType.TOGGLE)
+                .itemSupplier(itemSupplier)
+                .clickHandler((player, clickType) -> setter.accept(player, !getter.test(player)))
+                .build();
+    }
+
+    public static SettingEntry toggle(String id, Function<Player, ItemStack> itemRenderer,
+                                       Predicate<Player> getter, BiConsumer<Player, Boolean> setter) {
+        return new Builder(id, SettingType.TOGGLE)
+                .itemRenderer(itemRenderer)
+                .clickHandler((player, clickType) -> setter.accept(player, !getter.test(player)))
+                .build();
+    }
+
     public static SettingEntry action(String id, ItemStack item, BiConsumer<Player, ClickType> action) {
         return new Builder(id, SettingType.ACTION)
                 .item(item)
@@ -43,6 +64,13 @@ public class SettingEntry {
                 .build();
     }
 
+    public static SettingEntry action(String id, ItemTemplate item, BiConsumer<Player, ClickType> action) {
+        return new Builder(id, SettingType.ACTION)
+                .item(item)
+                .clickHandler(action::accept)
+                .build();
+    }
+
     public static SettingEntry display(String id, Supplier<ItemStack> itemSupplier) {
         return new Builder(id, SettingType.DISPLAY)
                 .itemSupplier(itemSupplier)
@@ -69,11 +97,23 @@ public class SettingEntry {
     }
 
     public ItemStack getItem() {
-        return itemSupplier.get();
+        return itemRenderer.apply(null);
+    }
+
+    public ItemStack getItem(Player viewer) {
+        return itemRenderer.apply(viewer);
     }
 
     public Supplier<ItemStack> getItemSupplier() {
-        return itemSupplier;
+        return this::getItem;
+    }
+
+    public Function<Player, ItemStack> getItemRenderer() {
+        return itemRenderer;
+    }
+
+    public boolean isViewerDependent() {
+        return viewerDependent;
     }
 
     public SettingClickHandler getClickHandler() {
@@ -101,7 +141,8 @@ public class SettingEntry {
     public static class Builder {
         private final String id;
         private final SettingType type;
-        private Supplier<ItemStack> itemSupplier;
+        private Function<Player, ItemStack> itemRenderer;
+        private boolean viewerDependent;
         private SettingClickHandler clickHandler;
         private String permission;
         private int slot = -1;
@@ -112,12 +153,22 @@ public class SettingEntry {
         }
 
         public Builder item(ItemStack item) {
-            this.itemSupplier = () -> item;
-            return this;
+            return itemSupplier(() -> item);
+        }
+
+        public Builder item(ItemTemplate template) {
+            return itemSupplier(template::create);
         }
 
         public Builder itemSupplier(Supplier<ItemStack> supplier) {
-            this.itemSupplier = supplier;
+            this.itemRenderer = supplier != null ? viewer -> supplier.get() : null;
+            this.viewerDependent = false;
+            return this;
+        }
+
+        public Builder itemRenderer(Function<Player, ItemStack> renderer) {
+            this.itemRenderer = renderer;
+            this.viewerDependent = true;
             return this;
         }
 
@@ -137,7 +188,7 @@ public class SettingEntry {
         }
 
         public SettingEntry build() {
-            if (itemSupplier == null) {
+            if (itemRenderer == null) {
                 throw new IllegalStateException("Item or ItemSupplier must be set");
             }
             return new SettingEntry(this);
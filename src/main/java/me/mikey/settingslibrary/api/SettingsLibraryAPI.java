@@ -33,8 +33,12 @@ public interface SettingsLibraryAPI {
 
     boolean registerProvider(SettingsProvider provider);
 
+    int registerProviders(Collection<? extends SettingsProvider> providers);
+
     boolean unregisterProvider(SettingsProvider provider);
 
+    int unregisterProviders(Collection<? extends SettingsProvider> providers);
+
     int unregisterAll(Plugin plugin);
 
     Optional<SettingsProvider> getProvider(String settingsId);
@@ -49,5 +53,13 @@ public interface SettingsLibraryAPI {
 
     void refreshMenus();
 
+    boolean invalidateDisplayItem(String settingsId);
+
+    boolean registerPlaceholder(Plugin owner, String key, PlaceholderResolver resolver);
+
+    boolean unregisterPlaceholder(String key);
+
+    PlayerSettingsStore getPlayerSettings(Plugin owner);
+
     String getVersion();
 }
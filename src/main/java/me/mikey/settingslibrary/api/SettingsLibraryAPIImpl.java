@@ -2,6 +2,7 @@ package me.mikey.settingslibrary.api;
 
 import me.mikey.settingslibrary.SettingsLibraryPlugin;
 import me.mikey.settingslibrary.manager.PluginIntegrationManager;
+import me.mikey.settingslibrary.storage.ScopedSettingsStore;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
 
@@ -23,11 +24,21 @@ public class SettingsLibraryAPIImpl implements SettingsLibraryAPI {
         return integrationManager.registerProvider(provider);
     }
 
+    @Override
+    public int registerProviders(Collection<? extends SettingsProvider> providers) {
+        return integrationManager.registerProviders(providers);
+    }
+
     @Override
     public boolean unregisterProvider(SettingsProvider provider) {
         return integrationManager.unregisterProvider(provider);
     }
 
+    @Override
+    public int unregisterProviders(Collection<? extends SettingsProvider> providers) {
+        return integrationManager.unregisterProviders(providers);
+    }
+
     @Override
     public int unregisterAll(Plugin ownerPlugin) {
         return integrationManager.unregisterAll(ownerPlugin);
@@ -65,7 +76,31 @@ public class SettingsLibraryAPIImpl implements SettingsLibraryAPI {
 
     @Override
     public void refreshMenus() {
-        plugin.getGUIManager().refreshAllMenus();
+        plugin.getGUIManager().invalidateFrame();
+        plugin.getGUIManager().requestRefresh();
+    }
+
+    @Override
+    public boolean invalidateDisplayItem(String settingsId) {
+        return integrationManager.invalidateDisplayItem(settingsId);
+    }
+
+    @Override
+    public boolean registerPlaceholder(Plugin owner, String key, PlaceholderResolver resolver) {
+        return plugin.getPlaceholderManager().register(owner, key, resolver);
+    }
+
+    @Override
+    public boolean unregisterPlaceholder(String key) {
+        return plugin.getPlaceholderManager().unregister(key);
+    }
+
+    @Override
+    public PlayerSettingsStore getPlayerSettings(Plugin owner) {
+        if (owner == null) {
+            throw new IllegalArgumentException("Owner plugin cannot be null");
+        }
+        return new ScopedSettingsStore(plugin.getPlayerDataStore(), owner.getName());
     }
 
     @Override
@@ -19,6 +19,10 @@ public interface SettingsProvider {
 
     ItemStack getDisplayItem();
 
+    default long getDisplayItemTtl() {
+        return -1L;
+    }
+
     void onClick(Player player, ClickType clickType);
 
     default List<SettingEntry> getSettings() {
@@ -8,7 +8,6 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -25,13 +24,12 @@ public class SettingsCommand implements CommandExecutor, TabCompleter {
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         if (!(sender instanceof Player player)) {
-            sender.sendMessage(ConfigManager
-                    .colorize(configManager.getMessagePrefix() + "This command can only be used by players!"));
+            sender.sendMessage(configManager.getMessages().prefixed("players-only"));
             return true;
         }
 
         if (!player.hasPermission("settingslibrary.use")) {
-            player.sendMessage(configManager.getMessagePrefix() + configManager.getMessage("no-permission"));
+            player.sendMessage(configManager.getMessages().prefixed("no-permission"));
             return true;
         }
 
@@ -51,11 +49,7 @@ public class SettingsCommand implements CommandExecutor, TabCompleter {
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command, String label, String[] args) {
         if (args.length == 1) {
-            List<String> suggestions = new ArrayList<>(plugin.getIntegrationManager().getProviderIds());
-            String prefix = args[0].toLowerCase();
-            suggestions.removeIf(s -> !s.toLowerCase().startsWith(prefix));
-            Collections.sort(suggestions);
-            return suggestions;
+            return plugin.getIntegrationManager().completeProviderIds(args[0]);
         }
         return Collections.emptyList();
     }
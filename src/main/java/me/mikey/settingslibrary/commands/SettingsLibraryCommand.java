@@ -3,6 +3,11 @@ package me.mikey.settingslibrary.commands;
 import me.mikey.settingslibrary.SettingsLibraryPlugin;
 import me.mikey.settingslibrary.api.SettingsProvider;
 import me.mikey.settingslibrary.config.ConfigManager;
+import me.mikey.settingslibrary.config.MessageCatalog;
+import me.mikey.settingslibrary.manager.ProviderProfiler;
+import me.mikey.settingslibrary.manager.ProviderProfiler.Histogram;
+import me.mikey.settingslibrary.manager.ProviderProfiler.Hook;
+import me.mikey.settingslibrary.manager.ProviderProfiler.ProviderStats;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -16,7 +21,12 @@ public class SettingsLibraryCommand implements CommandExecutor, TabCompleter {
     private final ConfigManager configManager;
 
     private static final List<String> SUBCOMMANDS = Arrays.asList(
-            "list", "reload", "info", "debug", "refresh", "help");
+            "list", "reload", "info", "debug", "refresh", "profile", "help");
+
+    private static final List<String> HELP_KEYS = Arrays.asList(
+            "help-list", "help-info", "help-reload", "help-refresh", "help-profile", "help-debug", "help-help");
+
+    private static final int PROFILE_LIMIT = 10;
 
     public SettingsLibraryCommand(SettingsLibraryPlugin plugin) {
         this.plugin = plugin;
@@ -25,8 +35,6 @@ public class SettingsLibraryCommand implements CommandExecutor, TabCompleter {
 
     @Override
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
-        String prefix = configManager.getMessagePrefix();
-
         if (args.length == 0) {
             sendHelp(sender, label);
             return true;
@@ -40,57 +48,55 @@ public class SettingsLibraryCommand implements CommandExecutor, TabCompleter {
             case "info" -> handleInfo(sender, args);
             case "debug" -> handleDebug(sender);
             case "refresh" -> handleRefresh(sender);
+            case "profile" -> handleProfile(sender, args);
             case "help" -> sendHelp(sender, label);
             default -> sender.sendMessage(
-                    ConfigManager.colorize(prefix + "&cUnknown subcommand. Use &f/" + label + " help &cfor usage."));
+                    configManager.getMessages().prefixed("unknown-subcommand", Map.of("label", label)));
         }
 
         return true;
     }
 
     private void handleList(CommandSender sender) {
-        String prefix = configManager.getMessagePrefix();
+        MessageCatalog messages = configManager.getMessages();
         Collection<SettingsProvider> providers = plugin.getIntegrationManager().getProviders();
 
         if (providers.isEmpty()) {
-            sender.sendMessage(prefix + configManager.getMessage("list-empty"));
+            sender.sendMessage(messages.prefixed("list-empty"));
             return;
         }
 
-        sender.sendMessage(prefix + configManager.getMessage("list-header"));
+        sender.sendMessage(messages.prefixed("list-header"));
 
         for (SettingsProvider provider : providers) {
-            String version = provider.getPlugin().getDescription().getVersion();
-            String entry = configManager.getMessage("list-entry")
-                    .replace("{plugin}", provider.getDisplayName())
-                    .replace("{version}", version);
-            sender.sendMessage(ConfigManager.colorize(entry));
+            sender.sendMessage(messages.render("list-entry", Map.of(
+                    "plugin", ConfigManager.colorize(provider.getDisplayName()),
+                    "version", provider.getPlugin().getDescription().getVersion())));
         }
 
-        sender.sendMessage(
-                ConfigManager.colorize(prefix + "&7Total: &f" + providers.size() + " &7integrated plugin(s)"));
+        sender.sendMessage(messages.prefixed("list-total", Map.of("count", providers.size())));
     }
 
     private void handleReload(CommandSender sender) {
-        String prefix = configManager.getMessagePrefix();
-
         if (!sender.hasPermission("settingslibrary.reload")) {
-            sender.sendMessage(prefix + configManager.getMessage("no-permission"));
+            sender.sendMessage(configManager.getMessages().prefixed("no-permission"));
             return;
         }
 
         configManager.reloadAll();
+        plugin.updateConfigWatcher();
+        plugin.getIntegrationManager().getRegistry().resort();
         plugin.getGUIManager().rebuildDecoratorCache();
-        plugin.getGUIManager().refreshAllMenus();
+        plugin.getGUIManager().requestRefresh();
 
-        sender.sendMessage(prefix + configManager.getMessage("reload-success"));
+        sender.sendMessage(configManager.getMessages().prefixed("reload-success"));
     }
 
     private void handleInfo(CommandSender sender, String[] args) {
-        String prefix = configManager.getMessagePrefix();
+        MessageCatalog messages = configManager.getMessages();
 
         if (args.length < 2) {
-            sender.sendMessage(ConfigManager.colorize(prefix + "&cUsage: /settingslibrary info <plugin-id>"));
+            sender.sendMessage(messages.prefixed("info-usage"));
             return;
         }
 
@@ -98,72 +104,143 @@ public class SettingsLibraryCommand implements CommandExecutor, TabCompleter {
         Optional<SettingsProvider> providerOpt = plugin.getIntegrationManager().getProvider(settingsId);
 
         if (providerOpt.isEmpty()) {
-            sender.sendMessage(prefix + configManager.getMessage("plugin-not-found")
-                    .replace("{plugin}", settingsId));
+            sender.sendMessage(messages.prefixed("plugin-not-found", Map.of("plugin", settingsId)));
             return;
         }
 
         SettingsProvider provider = providerOpt.get();
+        int configuredSlot = configManager.getPluginSlot(settingsId);
 
         sender.sendMessage("");
-        sender.sendMessage(ConfigManager.colorize("&b&l" + provider.getDisplayName() + " &7Settings Info"));
-        sender.sendMessage(ConfigManager.colorize("&8&m                                        "));
-        sender.sendMessage(ConfigManager.colorize("&7Plugin: &f" + provider.getPlugin().getName()));
-        sender.sendMessage(
-                ConfigManager.colorize("&7Version: &f" + provider.getPlugin().getDescription().getVersion()));
-        sender.sendMessage(ConfigManager.colorize("&7Settings ID: &f" + provider.getSettingsId()));
-        sender.sendMessage(ConfigManager.colorize("&7Priority: &f" + provider.getPriority()));
-        sender.sendMessage(ConfigManager.colorize("&7Has Sub-Menu: &f" + (provider.hasSubMenu() ? "Yes" : "No")));
-        sender.sendMessage(ConfigManager.colorize("&7Enabled: &f" + (provider.isEnabled() ? "Yes" : "No")));
-
-        int configuredSlot = configManager.getPluginSlot(provider.getSettingsId());
-        sender.sendMessage(ConfigManager.colorize("&7Configured Slot: &f" +
-                (configuredSlot >= 0 ? configuredSlot : "Auto")));
-
-        sender.sendMessage(ConfigManager.colorize("&8&m                                        "));
+        sender.sendMessage(messages.render("info-header", Map.of("plugin", ConfigManager.colorize(provider.getDisplayName()))));
+        sender.sendMessage(messages.get("info-separator"));
+        sender.sendMessage(messages.render("info-plugin", Map.of("plugin", provider.getPlugin().getName())));
+        sender.sendMessage(messages.render("info-version",
+                Map.of("version", provider.getPlugin().getDescription().getVersion())));
+        sender.sendMessage(messages.render("info-id", Map.of("id", provider.getSettingsId())));
+        sender.sendMessage(messages.render("info-priority", Map.of("priority", provider.getPriority())));
+        sender.sendMessage(messages.render("info-submenu", Map.of("submenu", yesNo(messages, provider.hasSubMenu()))));
+        sender.sendMessage(messages.render("info-enabled", Map.of("enabled", yesNo(messages, provider.isEnabled()))));
+        sender.sendMessage(messages.render("info-slot",
+                Map.of("slot", configuredSlot >= 0 ? configuredSlot : messages.get("value-auto"))));
+        sender.sendMessage(messages.get("info-separator"));
         sender.sendMessage("");
     }
 
+    private String yesNo(MessageCatalog messages, boolean value) {
+        return messages.get(value ? "value-yes" : "value-no");
+    }
+
     private void handleDebug(CommandSender sender) {
-        String prefix = configManager.getMessagePrefix();
+        MessageCatalog messages = configManager.getMessages();
 
         if (!sender.hasPermission("settingslibrary.admin")) {
-            sender.sendMessage(prefix + configManager.getMessage("no-permission"));
+            sender.sendMessage(messages.prefixed("no-permission"));
             return;
         }
 
         boolean current = configManager.isDebugMode();
-        sender.sendMessage(
-                ConfigManager.colorize(prefix + "&7Debug mode is currently: &f" + (current ? "enabled" : "disabled")));
+        sender.sendMessage(messages.prefixed("debug-status",
+                Map.of("status", messages.get(current ? "value-enabled" : "value-disabled"))));
     }
 
     private void handleRefresh(CommandSender sender) {
-        String prefix = configManager.getMessagePrefix();
-
         if (!sender.hasPermission("settingslibrary.admin")) {
-            sender.sendMessage(prefix + configManager.getMessage("no-permission"));
+            sender.sendMessage(configManager.getMessages().prefixed("no-permission"));
             return;
         }
 
         int count = plugin.getGUIManager().getOpenMenuCount();
-        plugin.getGUIManager().refreshAllMenus();
+        plugin.getIntegrationManager().getRegistry().resort();
+        plugin.getGUIManager().invalidateFrame();
+        plugin.getGUIManager().requestRefresh();
+
+        sender.sendMessage(configManager.getMessages().prefixed("refresh-success", Map.of("count", count)));
+    }
+
+    private void handleProfile(CommandSender sender, String[] args) {
+        MessageCatalog messages = configManager.getMessages();
+
+        if (!sender.hasPermission("settingslibrary.admin")) {
+            sender.sendMessage(messages.prefixed("no-permission"));
+            return;
+        }
+
+        ProviderProfiler profiler = plugin.getIntegrationManager().getProfiler();
+
+        if (!configManager.isProfilingEnabled()) {
+            sender.sendMessage(messages.prefixed("profile-disabled"));
+        }
+
+        if (args.length >= 2 && args[1].equalsIgnoreCase("reset")) {
+            profiler.reset();
+            sender.sendMessage(messages.prefixed("profile-reset"));
+            return;
+        }
+
+        if (args.length >= 2) {
+            ProviderStats stats = profiler.getStats(args[1]);
+            if (stats == null) {
+                sender.sendMessage(messages.prefixed("plugin-not-found", Map.of("plugin", args[1].toLowerCase())));
+                return;
+            }
+
+            sender.sendMessage("");
+            sender.sendMessage(messages.render("profile-header", Map.of("plugin", stats.settingsId())));
+            sender.sendMessage(messages.get("info-separator"));
+            for (Hook hook : Hook.values()) {
+                Histogram histogram = stats.histogram(hook);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                sender.sendMessage(messages.render("profile-hook", Map.of(
+                        "hook", hook.getLabel(),
+                        "count", histogram.getCount(),
+                        "p50", ProviderProfiler.formatMillis(histogram.getPercentile(50)),
+                        "p99", ProviderProfiler.formatMillis(histogram.getPercentile(99)),
+                        "max", ProviderProfiler.formatMillis(histogram.getMax()))));
+            }
+            if (stats.getTotalCount() == 0) {
+                sender.sendMessage(messages.get("profile-empty"));
+            }
+            sender.sendMessage(messages.get("info-separator"));
+            sender.sendMessage("");
+            return;
+        }
+
+        List<ProviderStats> ranked = new ArrayList<>(profiler.getAllStats().values());
+        ranked.removeIf(stats -> stats.getTotalCount() == 0);
+        ranked.sort(Comparator.comparingLong((ProviderStats stats) -> stats.getWorstPercentile(99)).reversed());
 
-        sender.sendMessage(ConfigManager.colorize(prefix + "&aRefreshed &f" + count + " &aopen menu(s)."));
+        sender.sendMessage("");
+        sender.sendMessage(messages.get("profile-top-header"));
+        sender.sendMessage(messages.get("info-separator"));
+        if (ranked.isEmpty()) {
+            sender.sendMessage(messages.get("profile-empty"));
+        }
+        for (ProviderStats stats : ranked.subList(0, Math.min(PROFILE_LIMIT, ranked.size()))) {
+            sender.sendMessage(messages.render("profile-top-entry", Map.of(
+                    "plugin", stats.settingsId(),
+                    "count", stats.getTotalCount(),
+                    "p99", ProviderProfiler.formatMillis(stats.getWorstPercentile(99)),
+                    "max", ProviderProfiler.formatMillis(stats.getWorstMax()))));
+        }
+        sender.sendMessage(messages.get("info-separator"));
+        sender.sendMessage("");
     }
 
     private void sendHelp(CommandSender sender, String label) {
+        MessageCatalog messages = configManager.getMessages();
+        Map<String, Object> args = Map.of("label", label, "version", plugin.getDescription().getVersion());
+
         sender.sendMessage("");
-        sender.sendMessage(
-                ConfigManager.colorize("&b&lSettingsLibrary &8- &7v" + plugin.getDescription().getVersion()));
-        sender.sendMessage(ConfigManager.colorize("&8&m                                        "));
-        sender.sendMessage(ConfigManager.colorize("&f/" + label + " list &8- &7List integrated plugins"));
-        sender.sendMessage(ConfigManager.colorize("&f/" + label + " info <plugin> &8- &7Show plugin info"));
-        sender.sendMessage(ConfigManager.colorize("&f/" + label + " reload &8- &7Reload configuration"));
-        sender.sendMessage(ConfigManager.colorize("&f/" + label + " refresh &8- &7Refresh open menus"));
-        sender.sendMessage(ConfigManager.colorize("&f/" + label + " debug &8- &7Toggle debug mode"));
-        sender.sendMessage(ConfigManager.colorize("&f/" + label + " help &8- &7Show this help"));
-        sender.sendMessage(ConfigManager.colorize("&8&m                                        "));
-        sender.sendMessage(ConfigManager.colorize("&f/settings &8- &7Open the settings menu"));
+        sender.sendMessage(messages.render("help-title", args));
+        sender.sendMessage(messages.get("help-separator"));
+        for (String key : HELP_KEYS) {
+            sender.sendMessage(messages.render(key, args));
+        }
+        sender.sendMessage(messages.get("help-separator"));
+        sender.sendMessage(messages.render("help-settings", args));
         sender.sendMessage("");
     }
 
@@ -180,11 +257,13 @@ public class SettingsLibraryCommand implements CommandExecutor, TabCompleter {
             return filtered;
         }
 
-        if (args.length == 2 && args[0].equalsIgnoreCase("info")) {
-            List<String> suggestions = new ArrayList<>(plugin.getIntegrationManager().getProviderIds());
-            String prefix = args[1].toLowerCase();
-            suggestions.removeIf(s -> !s.toLowerCase().startsWith(prefix));
-            Collections.sort(suggestions);
+        if (args.length == 2 && (args[0].equalsIgnoreCase("info") || args[0].equalsIgnoreCase("profile"))) {
+            List<String> suggestions = plugin.getIntegrationManager().completeProviderIds(args[1]);
+            if (args[0].equalsIgnoreCase("profile") && "reset".startsWith(args[1].toLowerCase())) {
+                suggestions = new ArrayList<>(suggestions);
+                suggestions.add("reset");
+                Collections.sort(suggestions);
+            }
             return suggestions;
         }
 
@@ -1,42 +1,40 @@
 package me.mikey.settingslibrary.config;
 
 import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.config.PositionsIndex.Position;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.Sound;
+import org.bukkit.configuration.Configuration;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
-import java.io.IOException;
 import java.util.*;
-import java.util.logging.Level;
+import java.util.concurrent.TimeUnit;
 
 public class ConfigManager {
 
     private final SettingsLibraryPlugin plugin;
 
-    private FileConfiguration mainConfig;
-    private FileConfiguration templatesConfig;
-    private FileConfiguration positionsConfig;
+    private volatile FileConfiguration mainConfig;
+    private volatile FileConfiguration templatesConfig;
+    private volatile Configuration configDefaults;
+    private volatile ConfigSnapshot snapshot;
 
-    private File templatesFile;
     private File positionsFile;
-
-    private String menuTitle;
-    private int menuSize;
-    private String activeTemplate;
-    private boolean debugMode;
-    private Map<String, DecoratorItem> decorators;
-    private Map<String, NavigationItem> navigationItems;
-    private SoundConfig openSound;
-    private SoundConfig clickSound;
+    private volatile PositionsIndex positionsIndex;
+    private String positionsSource;
+    private int autoPriorityBase;
+    private int autoPriorityIncrement;
+    private final PositionsWriter positionsWriter;
 
     public ConfigManager(SettingsLibraryPlugin plugin) {
         this.plugin = plugin;
-        this.decorators = new HashMap<>();
-        this.navigationItems = new HashMap<>();
+        this.positionsIndex = new PositionsIndex();
+        this.positionsSource = "";
+        this.positionsWriter = new PositionsWriter(plugin.getLogger());
     }
 
     public void loadAll() {
@@ -45,15 +43,20 @@ public class ConfigManager {
         saveDefaultConfig("positions.yml");
 
         plugin.reloadConfig();
-        mainConfig = plugin.getConfig();
-
-        templatesFile = new File(plugin.getDataFolder(), "templates.yml");
-        templatesConfig = YamlConfiguration.loadConfiguration(templatesFile);
+        configDefaults = plugin.getConfig().getDefaults();
 
+        boolean pendingWrite = positionsWriter.hasPendingWrite();
         positionsFile = new File(plugin.getDataFolder(), "positions.yml");
-        positionsConfig = YamlConfiguration.loadConfiguration(positionsFile);
+        FileConfiguration positions = YamlConfiguration.loadConfiguration(positionsFile);
+        PositionsIndex loaded = PositionsIndex.load(positions.getConfigurationSection("plugins"));
+        boolean merged = mergePositions(loaded, pendingWrite);
+        loadPositions(positions, loaded);
+        if (merged) {
+            savePositionsConfig();
+        }
 
-        parseMainConfig();
+        install(prepare(plugin.getConfig(),
+                YamlConfiguration.loadConfiguration(new File(plugin.getDataFolder(), "templates.yml"))));
 
         plugin.getLogger().info("Configuration loaded successfully!");
     }
@@ -62,285 +65,252 @@ public class ConfigManager {
         loadAll();
     }
 
-    private void saveDefaultConfig(String fileName) {
-        File file = new File(plugin.getDataFolder(), fileName);
-        if (!file.exists()) {
-            plugin.saveResource(fileName, false);
+    public PreparedConfig prepare(FileConfiguration main, FileConfiguration templates) {
+        FileConfiguration nextMain = main != null ? main : mainConfig;
+        FileConfiguration nextTemplates = templates != null ? templates : templatesConfig;
+        if (main != null && main.getDefaults() == null && configDefaults != null) {
+            main.setDefaults(configDefaults);
         }
+        return new PreparedConfig(nextMain, nextTemplates,
+                ConfigSnapshot.compile(nextMain, nextTemplates, plugin.getLogger()));
     }
 
-    private void parseMainConfig() {
-        debugMode = mainConfig.getBoolean("general.debug", false);
-
-        menuTitle = colorize(mainConfig.getString("gui.title", "&8&l✦ &b&lSettings &8&l✦"));
-        menuSize = mainConfig.getInt("gui.size", 54);
+    public Set<ReloadScope> publish(PreparedConfig prepared) {
+        ConfigSnapshot previous = snapshot;
+        install(prepared);
+        ConfigSnapshot next = prepared.snapshot();
 
-        if (menuSize % 9 != 0 || menuSize < 9 || menuSize > 54) {
-            plugin.getLogger().warning("Invalid GUI size: " + menuSize + ". Defaulting to 54.");
-            menuSize = 54;
+        Set<ReloadScope> changes = EnumSet.noneOf(ReloadScope.class);
+        if (!next.messages().equals(previous.messages())) {
+            changes.add(ReloadScope.MESSAGES);
         }
-
-        activeTemplate = mainConfig.getString("template.active", "default");
-
-        openSound = parseSoundConfig(mainConfig.getConfigurationSection("gui.open-sound"));
-        clickSound = parseSoundConfig(mainConfig.getConfigurationSection("gui.click-sound"));
-
-        parseDecorators();
-        parseNavigationItems();
-    }
-
-    private void parseDecorators() {
-        decorators.clear();
-        ConfigurationSection section = mainConfig.getConfigurationSection("decorators");
-        if (section == null)
-            return;
-
-        for (String key : section.getKeys(false)) {
-            ConfigurationSection itemSection = section.getConfigurationSection(key);
-            if (itemSection != null) {
-                decorators.put(key, parseDecoratorItem(itemSection));
-            }
+        if (!next.menuTitle().equals(previous.menuTitle()) || !next.subMenuTitle().equals(previous.subMenuTitle())
+                || !next.searchTitle().equals(previous.searchTitle())) {
+            changes.add(ReloadScope.TITLES);
+        }
+        if (!next.decorators().equals(previous.decorators())
+                || !next.navigationItems().equals(previous.navigationItems())) {
+            changes.add(ReloadScope.DECORATORS);
+        }
+        if (!next.activeTemplate().equals(previous.activeTemplate())
+                || !next.getTemplateDecorators(next.activeTemplate().id())
+                .equals(previous.getTemplateDecorators(previous.activeTemplate().id()))) {
+            changes.add(ReloadScope.LAYOUT);
         }
+        return changes;
     }
 
-    private void parseNavigationItems() {
-        navigationItems.clear();
-        ConfigurationSection section = mainConfig.getConfigurationSection("navigation");
-        if (section == null)
-            return;
-
-        for (String key : section.getKeys(false)) {
-            ConfigurationSection itemSection = section.getConfigurationSection(key);
-            if (itemSection != null) {
-                navigationItems.put(key, parseNavigationItem(itemSection));
-            }
-        }
+    private void install(PreparedConfig prepared) {
+        mainConfig = prepared.main();
+        templatesConfig = prepared.templates();
+        snapshot = prepared.snapshot();
     }
 
-    private DecoratorItem parseDecoratorItem(ConfigurationSection section) {
-        Material material = Material.matchMaterial(section.getString("material", "GRAY_STAINED_GLASS_PANE"));
-        if (material == null)
-            material = Material.GRAY_STAINED_GLASS_PANE;
+    public Set<ReloadScope> applyPositionsConfig(FileConfiguration config) {
+        PositionsIndex loaded = PositionsIndex.load(config.getConfigurationSection("plugins"));
+        boolean merged = mergePositions(loaded, false);
 
-        String name = colorize(section.getString("name", " "));
-        int customModelData = section.getInt("custom-model-data", -1);
+        boolean changed = !loaded.getPositions().equals(positionsIndex.getPositions());
+        loadPositions(config, loaded);
 
-        return new DecoratorItem(material, name, customModelData);
+        if (merged) {
+            savePositionsConfig();
+        }
+        return changed ? EnumSet.of(ReloadScope.POSITIONS) : EnumSet.noneOf(ReloadScope.class);
     }
 
-    private NavigationItem parseNavigationItem(ConfigurationSection section) {
-        boolean enabled = section.getBoolean("enabled", true);
-        int slot = section.getInt("slot", 0);
+    public boolean isOwnPositionsWrite(String content) {
+        return positionsWriter.isLastWritten(content);
+    }
 
-        Material material = Material.matchMaterial(section.getString("material", "BARRIER"));
-        if (material == null)
-            material = Material.BARRIER;
+    public void shutdown() {
+        positionsWriter.shutdown(5, TimeUnit.SECONDS);
+    }
 
-        String name = colorize(section.getString("name", ""));
-        List<String> lore = new ArrayList<>();
-        for (String line : section.getStringList("lore")) {
-            lore.add(colorize(line));
+    private void saveDefaultConfig(String fileName) {
+        File file = new File(plugin.getDataFolder(), fileName);
+        if (!file.exists()) {
+            plugin.saveResource(fileName, false);
         }
-
-        return new NavigationItem(enabled, slot, material, name, lore);
     }
 
-    private SoundConfig parseSoundConfig(ConfigurationSection section) {
-        if (section == null)
-            return new SoundConfig(false, null, 1.0f, 1.0f);
-
-        boolean enabled = section.getBoolean("enabled", true);
-        Sound sound = null;
-        try {
-            sound = Sound.valueOf(section.getString("sound", "UI_BUTTON_CLICK"));
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("Invalid sound: " + section.getString("sound"));
+    private boolean mergePositions(PositionsIndex loaded, boolean overwrite) {
+        boolean merged = false;
+        for (Map.Entry<String, Position> entry : positionsIndex.getPositions().entrySet()) {
+            if (overwrite ? !entry.getValue().equals(loaded.getPositions().get(entry.getKey()))
+                    : !loaded.contains(entry.getKey())) {
+                loaded.put(entry.getKey(), entry.getValue());
+                merged = true;
+            }
         }
-        float volume = (float) section.getDouble("volume", 1.0);
-        float pitch = (float) section.getDouble("pitch", 1.0);
+        return merged;
+    }
+
+    private void loadPositions(FileConfiguration config, PositionsIndex index) {
+        positionsIndex = index;
+        positionsSource = config.saveToString();
+        autoPriorityBase = config.getInt("auto-assignment.default-priority", 100);
+        autoPriorityIncrement = config.getInt("auto-assignment.priority-increment", 10);
+    }
 
-        return new SoundConfig(enabled, sound, volume, pitch);
+    public Position getPluginPosition(String settingsId) {
+        return positionsIndex.get(settingsId);
     }
 
     public int getPluginSlot(String settingsId) {
-        return positionsConfig.getInt("plugins." + settingsId + ".slot", -1);
+        return positionsIndex.get(settingsId).slot();
     }
 
     public int getPluginPriority(String settingsId) {
-        return positionsConfig.getInt("plugins." + settingsId + ".priority", 100);
+        return positionsIndex.get(settingsId).priority();
     }
 
     public boolean isPluginEnabled(String settingsId) {
-        return positionsConfig.getBoolean("plugins." + settingsId + ".enabled", true);
+        return positionsIndex.get(settingsId).enabled();
     }
 
     public void setPluginPosition(String settingsId, int slot, int priority) {
-        String path = "plugins." + settingsId;
-        positionsConfig.set(path + ".slot", slot);
-        positionsConfig.set(path + ".priority", priority);
-        positionsConfig.set(path + ".page", 1);
-        positionsConfig.set(path + ".enabled", true);
+        positionsIndex.put(settingsId, new Position(slot, priority, 1, true));
         savePositionsConfig();
+
+        if (plugin.getIntegrationManager() != null) {
+            plugin.getIntegrationManager().getRegistry().resort();
+        }
     }
 
     public boolean addPluginIfAbsent(String settingsId) {
-        String path = "plugins." + settingsId;
-        if (positionsConfig.contains(path)) {
+        if (!putAutoPosition(settingsId)) {
             return false;
         }
 
-        int basePriority = positionsConfig.getInt("auto-assignment.default-priority", 100);
-        int increment = positionsConfig.getInt("auto-assignment.priority-increment", 10);
+        savePositionsConfig();
+        return true;
+    }
 
-        ConfigurationSection plugins = positionsConfig.getConfigurationSection("plugins");
-        int maxPriority = basePriority;
-        if (plugins != null) {
-            for (String key : plugins.getKeys(false)) {
-                int priority = plugins.getInt(key + ".priority", basePriority);
-                if (priority >= maxPriority) {
-                    maxPriority = priority + increment;
-                }
+    public int addPluginsIfAbsent(Collection<String> settingsIds) {
+        int added = 0;
+        for (String settingsId : settingsIds) {
+            if (putAutoPosition(settingsId)) {
+                added++;
             }
         }
 
-        positionsConfig.set(path + ".slot", -1);
-        positionsConfig.set(path + ".priority", maxPriority);
-        positionsConfig.set(path + ".page", 1);
-        positionsConfig.set(path + ".enabled", true);
-        savePositionsConfig();
+        if (added > 0) {
+            savePositionsConfig();
+        }
+        return added;
+    }
 
-        return true;
+    private boolean putAutoPosition(String settingsId) {
+        return positionsIndex.putIfAbsent(settingsId, id -> {
+            int highest = positionsIndex.getHighestPriority();
+            int priority = highest >= autoPriorityBase ? highest + autoPriorityIncrement : autoPriorityBase;
+            return new Position(-1, priority, 1, true);
+        });
     }
 
     public void savePositionsConfig() {
-        try {
-            positionsConfig.save(positionsFile);
-        } catch (IOException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to save positions.yml", e);
-        }
+        positionsWriter.markDirty(positionsFile, positionsSource, positionsIndex);
     }
 
-    public GUITemplate getTemplate(String name) {
-        ConfigurationSection section = templatesConfig.getConfigurationSection("templates." + name);
-        if (section == null)
-            return null;
-
-        String displayName = section.getString("name", name);
-        String description = section.getString("description", "");
-        int size = section.getInt("size", menuSize);
-        List<String> pattern = section.getStringList("pattern");
-
-        return new GUITemplate(name, displayName, description, size, pattern);
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
-    public GUITemplate getActiveTemplate() {
-        GUITemplate template = getTemplate(activeTemplate);
-        if (template == null) {
-            template = getTemplate("default");
-        }
-        if (template == null) {
-            template = createFallbackTemplate();
-        }
-        return template;
+    public GUITemplate getTemplate(String name) {
+        return snapshot.templates().get(name);
     }
 
-    private GUITemplate createFallbackTemplate() {
-        List<String> pattern = Arrays.asList(
-                "B B B B I B B B B",
-                "B P P P P P P P B",
-                "B P P P P P P P B",
-                "B P P P P P P P B",
-                "B P P P P P P P B",
-                "B B B B C B B B B");
-        return new GUITemplate("fallback", "Fallback", "Default fallback template", 54, pattern);
+    public GUITemplate getActiveTemplate() {
+        return snapshot.activeTemplate();
     }
 
     public Map<String, DecoratorItem> getTemplateDecorators(String templateName) {
-        Map<String, DecoratorItem> overrides = new HashMap<>();
-        ConfigurationSection section = templatesConfig.getConfigurationSection("template-decorators." + templateName);
-        if (section == null)
-            return overrides;
-
-        for (String key : section.getKeys(false)) {
-            ConfigurationSection itemSection = section.getConfigurationSection(key);
-            if (itemSection != null) {
-                overrides.put(key, parseDecoratorItem(itemSection));
-            }
-        }
-        return overrides;
+        return snapshot.getTemplateDecorators(templateName);
     }
 
     public String getMenuTitle() {
-        return menuTitle;
+        return snapshot.menuTitle();
+    }
+
+    public String getSubMenuTitle() {
+        return snapshot.subMenuTitle();
     }
 
     public int getMenuSize() {
-        return menuSize;
+        return snapshot.menuSize();
     }
 
     public String getActiveTemplateName() {
-        return activeTemplate;
+        return snapshot.activeTemplateName();
     }
 
     public boolean isDebugMode() {
-        return debugMode;
+        return snapshot.debugMode();
+    }
+
+    public boolean isWatchFiles() {
+        return snapshot.watchFiles();
+    }
+
+    public long getRefreshInterval() {
+        return snapshot.refreshInterval();
+    }
+
+    public boolean isProfilingEnabled() {
+        return snapshot.profilingEnabled();
+    }
+
+    public long getSlowCallThresholdMs() {
+        return snapshot.slowCallThresholdMs();
     }
 
     public DecoratorItem getDecorator(String key) {
-        return decorators.get(key);
+        return snapshot.decorators().get(key);
     }
 
     public Map<String, DecoratorItem> getDecorators() {
-        return Collections.unmodifiableMap(decorators);
+        return snapshot.decorators();
     }
 
     public NavigationItem getNavigationItem(String key) {
-        return navigationItems.get(key);
+        return snapshot.navigationItems().get(key);
     }
 
     public Map<String, NavigationItem> getNavigationItems() {
-        return Collections.unmodifiableMap(navigationItems);
+        return snapshot.navigationItems();
     }
 
     public SoundConfig getOpenSound() {
-        return openSound;
+        return snapshot.openSound();
     }
 
     public SoundConfig getClickSound() {
-        return clickSound;
+        return snapshot.clickSound();
     }
 
     public boolean isAutoArrangeEnabled() {
-        return mainConfig.getBoolean("template.auto-arrange", true);
+        return snapshot.autoArrangeEnabled();
     }
 
     public int getAutoArrangeStart() {
-        return mainConfig.getInt("template.auto-arrange-start", 10);
+        return snapshot.autoArrangeStart();
     }
 
     public List<Integer> getAutoArrangeSkipSlots() {
-        return mainConfig.getIntegerList("template.auto-arrange-skip");
+        return snapshot.autoArrangeSkipSlots();
     }
 
-    public String getMessage(String key) {
-        String message = mainConfig.getString("messages." + key, "");
-        return colorize(message);
+    public MessageCatalog getMessages() {
+        return snapshot.messages();
     }
 
-    public String getMessagePrefix() {
-        return getMessage("prefix");
-    }
-
-    public FileConfiguration getMainConfig() {
-        return mainConfig;
-    }
-
-    public FileConfiguration getTemplatesConfig() {
-        return templatesConfig;
+    public String getMessage(String key) {
+        return snapshot.messages().get(key);
     }
 
-    public FileConfiguration getPositionsConfig() {
-        return positionsConfig;
+    public String getMessagePrefix() {
+        return snapshot.messages().get("prefix");
     }
 
     public static String colorize(String text) {
@@ -352,6 +322,17 @@ public class ConfigManager {
         return ChatColor.translateAlternateColorCodes('&', text);
     }
 
+    public enum ReloadScope {
+        MESSAGES,
+        TITLES,
+        DECORATORS,
+        LAYOUT,
+        POSITIONS
+    }
+
+    public record PreparedConfig(FileConfiguration main, FileConfiguration templates, ConfigSnapshot snapshot) {
+    }
+
     public record DecoratorItem(Material material, String name, int customModelData) {
     }
 
@@ -363,6 +344,26 @@ public class ConfigManager {
 
     public record GUITemplate(String id, String displayName, String description, int size, List<String> pattern) {
 
+        public char[] compilePattern() {
+            char[] slots = new char[size];
+            Arrays.fill(slots, 'X');
+            int slot = 0;
+
+            for (String row : pattern) {
+                for (int i = 0; i < row.length() && slot < size; i++) {
+                    char c = row.charAt(i);
+                    if (!Character.isWhitespace(c)) {
+                        slots[slot++] = c;
+                        while (i + 1 < row.length() && !Character.isWhitespace(row.charAt(i + 1))) {
+                            i++;
+                        }
+                    }
+                }
+            }
+
+            return slots;
+        }
+
         public Map<Integer, Character> parsePattern() {
             Map<Integer, Character> slots = new HashMap<>();
             int slot = 0;
@@ -382,11 +383,11 @@ public class ConfigManager {
 
         public List<Integer> getSlotsForPattern(char patternChar) {
             List<Integer> result = new ArrayList<>();
-            Map<Integer, Character> parsed = parsePattern();
+            char[] compiled = compilePattern();
 
-            for (Map.Entry<Integer, Character> entry : parsed.entrySet()) {
-                if (entry.getValue() == patternChar) {
-                    result.add(entry.getKey());
+            for (int slot = 0; slot < compiled.length; slot++) {
+                if (compiled[slot] == patternChar) {
+                    result.add(slot);
                 }
             }
 
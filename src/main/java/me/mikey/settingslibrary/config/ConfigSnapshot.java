@@ -0,0 +1,200 @@
+package me.mikey.settingslibrary.config;
+
+import me.mikey.settingslibrary.config.ConfigManager.DecoratorItem;
+import me.mikey.settingslibrary.config.ConfigManager.GUITemplate;
+import me.mikey.settingslibrary.config.ConfigManager.NavigationItem;
+import me.mikey.settingslibrary.config.ConfigManager.SoundConfig;
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+public record ConfigSnapshot(
+        String menuTitle,
+        String subMenuTitle,
+        String searchTitle,
+        int menuSize,
+        String activeTemplateName,
+        GUITemplate activeTemplate,
+        Map<String, GUITemplate> templates,
+        Map<String, Map<String, DecoratorItem>> templateDecorators,
+        boolean debugMode,
+        boolean watchFiles,
+        long refreshInterval,
+        boolean profilingEnabled,
+        long slowCallThresholdMs,
+        Map<String, DecoratorItem> decorators,
+        Map<String, NavigationItem> navigationItems,
+        SoundConfig openSound,
+        SoundConfig clickSound,
+        boolean autoArrangeEnabled,
+        int autoArrangeStart,
+        List<Integer> autoArrangeSkipSlots,
+        MessageCatalog messages) {
+
+    private static final GUITemplate FALLBACK_TEMPLATE = new GUITemplate("fallback", "Fallback",
+            "Default fallback template", 54, List.of(
+                    "B B B B I B B B B",
+                    "B P P P P P P P B",
+                    "B P P P P P P P B",
+                    "B P P P P P P P B",
+                    "B P P P P P P P B",
+                    "B B B B C B B B B"));
+
+    public static ConfigSnapshot compile(FileConfiguration main, FileConfiguration templatesConfig, Logger logger) {
+        String menuTitle = ConfigManager.colorize(main.getString("gui.title", "&8&l✦ &b&lSettings &8&l✦"));
+        String subMenuTitle = ConfigManager.colorize(
+                main.getString("gui.sub-menu-title", "&8&l✦ &r{plugin} &8({page}/{pages})"));
+        String searchTitle = ConfigManager.colorize(
+                main.getString("gui.search-title", "&8&l✦ &rSearch: &f{query} &8({page}/{pages})"));
+
+        int menuSize = main.getInt("gui.size", 54);
+        if (menuSize % 9 != 0 || menuSize < 9 || menuSize > 54) {
+            logger.warning("Invalid GUI size: " + menuSize + ". Defaulting to 54.");
+            menuSize = 54;
+        }
+
+        String activeTemplateName = main.getString("template.active", "default");
+        Map<String, GUITemplate> templates = parseTemplates(templatesConfig, menuSize);
+        GUITemplate activeTemplate = templates.get(activeTemplateName);
+        if (activeTemplate == null) {
+            activeTemplate = templates.getOrDefault("default", FALLBACK_TEMPLATE);
+        }
+
+        return new ConfigSnapshot(
+                menuTitle,
+                subMenuTitle,
+                searchTitle,
+                menuSize,
+                activeTemplateName,
+                activeTemplate,
+                templates,
+                parseTemplateDecorators(templatesConfig),
+                main.getBoolean("general.debug", false),
+                main.getBoolean("general.watch-files", false),
+                Math.max(1L, main.getLong("gui.refresh-interval", 1L)),
+                main.getBoolean("profiling.enabled", true),
+                main.getLong("profiling.slow-call-threshold-ms", 5L),
+                parseDecorators(main.getConfigurationSection("decorators")),
+                parseNavigationItems(main.getConfigurationSection("navigation")),
+                parseSoundConfig(main.getConfigurationSection("gui.open-sound"), logger),
+                parseSoundConfig(main.getConfigurationSection("gui.click-sound"), logger),
+                main.getBoolean("template.auto-arrange", true),
+                main.getInt("template.auto-arrange-start", 10),
+                List.copyOf(main.getIntegerList("template.auto-arrange-skip")),
+                MessageCatalog.compile(main.getConfigurationSection("messages")));
+    }
+
+    public Map<String, DecoratorItem> getTemplateDecorators(String templateName) {
+        return templateDecorators.getOrDefault(templateName, Collections.emptyMap());
+    }
+
+    private static Map<String, GUITemplate> parseTemplates(FileConfiguration config, int defaultSize) {
+        Map<String, GUITemplate> templates = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("templates");
+        if (section == null)
+            return Collections.emptyMap();
+
+        for (String name : section.getKeys(false)) {
+            ConfigurationSection templateSection = section.getConfigurationSection(name);
+            if (templateSection == null)
+                continue;
+
+            templates.put(name, new GUITemplate(
+                    name,
+                    templateSection.getString("name", name),
+                    templateSection.getString("description", ""),
+                    templateSection.getInt("size", defaultSize),
+                    List.copyOf(templateSection.getStringList("pattern"))));
+        }
+        return Collections.unmodifiableMap(templates);
+    }
+
+    private static Map<String, Map<String, DecoratorItem>> parseTemplateDecorators(FileConfiguration config) {
+        Map<String, Map<String, DecoratorItem>> overrides = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("template-decorators");
+        if (section == null)
+            return Collections.emptyMap();
+
+        for (String name : section.getKeys(false)) {
+            overrides.put(name, parseDecorators(section.getConfigurationSection(name)));
+        }
+        return Collections.unmodifiableMap(overrides);
+    }
+
+    private static Map<String, DecoratorItem> parseDecorators(ConfigurationSection section) {
+        Map<String, DecoratorItem> decorators = new HashMap<>();
+        if (section == null)
+            return Collections.emptyMap();
+
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection itemSection = section.getConfigurationSection(key);
+            if (itemSection != null) {
+                decorators.put(key, parseDecoratorItem(itemSection));
+            }
+        }
+        return Collections.unmodifiableMap(decorators);
+    }
+
+    private static Map<String, NavigationItem> parseNavigationItems(ConfigurationSection section) {
+        Map<String, NavigationItem> items = new HashMap<>();
+        if (section == null)
+            return Collections.emptyMap();
+
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection itemSection = section.getConfigurationSection(key);
+            if (itemSection != null) {
+                items.put(key, parseNavigationItem(itemSection));
+            }
+        }
+        return Collections.unmodifiableMap(items);
+    }
+
+    private static DecoratorItem parseDecoratorItem(ConfigurationSection section) {
+        Material material = Material.matchMaterial(section.getString("material", "GRAY_STAINED_GLASS_PANE"));
+        if (material == null)
+            material = Material.GRAY_STAINED_GLASS_PANE;
+
+        String name = ConfigManager.colorize(section.getString("name", " "));
+        int customModelData = section.getInt("custom-model-data", -1);
+
+        return new DecoratorItem(material, name, customModelData);
+    }
+
+    private static NavigationItem parseNavigationItem(ConfigurationSection section) {
+        boolean enabled = section.getBoolean("enabled", true);
+        int slot = section.getInt("slot", 0);
+
+        Material material = Material.matchMaterial(section.getString("material", "BARRIER"));
+        if (material == null)
+            material = Material.BARRIER;
+
+        String name = ConfigManager.colorize(section.getString("name", ""));
+        List<String> lore = new ArrayList<>();
+        for (String line : section.getStringList("lore")) {
+            lore.add(ConfigManager.colorize(line));
+        }
+
+        return new NavigationItem(enabled, slot, material, name, List.copyOf(lore));
+    }
+
+    private static SoundConfig parseSoundConfig(ConfigurationSection section, Logger logger) {
+        if (section == null)
+            return new SoundConfig(false, null, 1.0f, 1.0f);
+
+        boolean enabled = section.getBoolean("enabled", true);
+        Sound sound = null;
+        try {
+            sound = Sound.valueOf(section.getString("sound", "UI_BUTTON_CLICK"));
+        } catch (IllegalArgumentException e) {
+            logger.warning("Invalid sound: " + section.getString("sound"));
+        }
+        float volume = (float) section.getDouble("volume", 1.0);
+        float pitch = (float) section.getDouble("pitch", 1.0);
+
+        return new SoundConfig(enabled, sound, volume, pitch);
+    }
+}
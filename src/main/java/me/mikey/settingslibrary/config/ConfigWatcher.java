@@ -0,0 +1,186 @@
+package me.mikey.settingslibrary.config;
+
+import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.config.ConfigManager.PreparedConfig;
+import me.mikey.settingslibrary.config.ConfigManager.ReloadScope;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+public class ConfigWatcher {
+
+    private static final long DEBOUNCE_MILLIS = 250L;
+
+    private static final String CONFIG_FILE = "config.yml";
+    private static final String TEMPLATES_FILE = "templates.yml";
+    private static final String POSITIONS_FILE = "positions.yml";
+    private static final List<String> WATCHED_FILES = List.of(CONFIG_FILE, TEMPLATES_FILE, POSITIONS_FILE);
+
+    private final SettingsLibraryPlugin plugin;
+    private final Path folder;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    public ConfigWatcher(SettingsLibraryPlugin plugin) {
+        this.plugin = plugin;
+        this.folder = plugin.getDataFolder().toPath();
+    }
+
+    public synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+
+        try {
+            watchService = folder.getFileSystem().newWatchService();
+            folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to watch the data folder for changes", e);
+            closeWatchService();
+            return;
+        }
+
+        WatchService service = watchService;
+        thread = new Thread(() -> run(service), "SettingsLibrary-ConfigWatcher");
+        thread.setDaemon(true);
+        thread.start();
+
+        plugin.getLogger().info("Watching configuration files for changes");
+    }
+
+    public synchronized void stop() {
+        if (thread == null) {
+            return;
+        }
+        closeWatchService();
+        thread.interrupt();
+        thread = null;
+    }
+
+    public synchronized boolean isRunning() {
+        return thread != null;
+    }
+
+    private void closeWatchService() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+            watchService = null;
+        }
+    }
+
+    private void run(WatchService service) {
+        Set<String> pending = new LinkedHashSet<>();
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = pending.isEmpty()
+                        ? service.take()
+                        : service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (key == null) {
+                    process(pending);
+                    pending = new LinkedHashSet<>();
+                    continue;
+                }
+
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        pending.addAll(WATCHED_FILES);
+                    } else if (event.context() instanceof Path path
+                            && WATCHED_FILES.contains(path.getFileName().toString())) {
+                        pending.add(path.getFileName().toString());
+                    }
+                }
+
+                if (!key.reset()) {
+                    break;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException ignored) {
+        }
+    }
+
+    private void process(Set<String> files) {
+        Map<String, YamlConfiguration> parsed = new LinkedHashMap<>();
+        for (String fileName : files) {
+            String content;
+            try {
+                content = Files.readString(folder.resolve(fileName), StandardCharsets.UTF_8);
+            } catch (NoSuchFileException e) {
+                continue;
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Failed to read " + fileName, e);
+                continue;
+            }
+
+            if (fileName.equals(POSITIONS_FILE) && plugin.getConfigManager().isOwnPositionsWrite(content)) {
+                continue;
+            }
+
+            YamlConfiguration yaml = new YamlConfiguration();
+            try {
+                yaml.loadFromString(content);
+            } catch (InvalidConfigurationException e) {
+                plugin.getLogger().warning("Ignoring change to " + fileName + ": " + e.getMessage());
+                continue;
+            }
+            parsed.put(fileName, yaml);
+        }
+
+        if (parsed.isEmpty()) {
+            return;
+        }
+
+        YamlConfiguration config = parsed.get(CONFIG_FILE);
+        YamlConfiguration templates = parsed.get(TEMPLATES_FILE);
+        PreparedConfig prepared = config != null || templates != null
+                ? plugin.getConfigManager().prepare(config, templates)
+                : null;
+
+        if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, () -> apply(parsed.keySet(), prepared, parsed.get(POSITIONS_FILE)));
+        }
+    }
+
+    private void apply(Set<String> files, PreparedConfig prepared, YamlConfiguration positions) {
+        ConfigManager configManager = plugin.getConfigManager();
+        Set<ReloadScope> changes = EnumSet.noneOf(ReloadScope.class);
+
+        if (prepared != null) {
+            changes.addAll(configManager.publish(prepared));
+        }
+        if (positions != null) {
+            changes.addAll(configManager.applyPositionsConfig(positions));
+        }
+
+        plugin.getGUIManager().applyReload(changes);
+        plugin.getLogger().info("Reloaded " + String.join(", ", files)
+                + (changes.isEmpty() ? " (no changes)" : " (changed: " + changes + ")"));
+
+        if (!configManager.isWatchFiles()) {
+            stop();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package me.mikey.settingslibrary.config;
+
+import me.mikey.settingslibrary.util.PlaceholderParser;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class MessageCatalog {
+
+    private static final Message EMPTY = new Message(new String[]{""}, new String[]{null});
+
+    private final Map<String, Message> messages;
+    private final Message prefix;
+
+    private MessageCatalog(Map<String, Message> messages) {
+        this.messages = messages;
+        this.prefix = messages.getOrDefault("prefix", EMPTY);
+    }
+
+    public static MessageCatalog compile(ConfigurationSection section) {
+        Map<String, Message> messages = new HashMap<>();
+        if (section == null) {
+            return new MessageCatalog(messages);
+        }
+
+        Set<String> keys = new LinkedHashSet<>(section.getKeys(false));
+        ConfigurationSection defaults = section.getDefaultSection();
+        if (defaults != null) {
+            keys.addAll(defaults.getKeys(false));
+        }
+
+        for (String key : keys) {
+            String raw = section.getString(key);
+            if (raw != null) {
+                messages.put(key, Message.compile(ConfigManager.colorize(raw)));
+            }
+        }
+        return new MessageCatalog(Collections.unmodifiableMap(messages));
+    }
+
+    public String get(String key) {
+        return render(key, Collections.emptyMap());
+    }
+
+    public String render(String key, Map<String, ?> args) {
+        StringBuilder builder = new StringBuilder();
+        messages.getOrDefault(key, EMPTY).appendTo(builder, args);
+        return builder.toString();
+    }
+
+    public String prefixed(String key) {
+        return prefixed(key, Collections.emptyMap());
+    }
+
+    public String prefixed(String key, Map<String, ?> args) {
+        StringBuilder builder = new StringBuilder();
+        prefix.appendTo(builder, args);
+        messages.getOrDefault(key, EMPTY).appendTo(builder, args);
+        return builder.toString();
+    }
+
+    public boolean contains(String key) {
+        return messages.containsKey(key);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof MessageCatalog catalog && messages.equals(catalog.messages);
+    }
+
+    @Override
+    public int hashCode() {
+        return messages.hashCode();
+    }
+
+    private record Message(String[] literals, String[] placeholders) {
+
+        static Message compile(String text) {
+            List<String> literals = new ArrayList<>();
+            List<String> placeholders = new ArrayList<>();
+
+            StringBuilder literal = new StringBuilder();
+            PlaceholderParser.parse(text, new PlaceholderParser.Handler() {
+                @Override
+                public void literal(String text) {
+                    literal.append(text);
+                }
+
+                @Override
+                public void placeholder(String key) {
+                    literals.add(literal.toString());
+                    placeholders.add(key);
+                    literal.setLength(0);
+                }
+            });
+            literals.add(literal.toString());
+            placeholders.add(null);
+
+            return new Message(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            return other instanceof Message message && Arrays.equals(literals, message.literals)
+                    && Arrays.equals(placeholders, message.placeholders);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(literals) + Arrays.hashCode(placeholders);
+        }
+
+        void appendTo(StringBuilder builder, Map<String, ?> args) {
+            for (int i = 0; i < literals.length; i++) {
+                builder.append(literals[i]);
+                String name = placeholders[i];
+                if (name == null) {
+                    continue;
+                }
+                Object value = args.get(name);
+                if (value != null) {
+                    builder.append(value);
+                } else {
+                    builder.append('{').append(name).append('}');
+                }
+            }
+        }
+    }
+}
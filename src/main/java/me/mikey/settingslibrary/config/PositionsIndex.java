@@ -0,0 +1,82 @@
+package me.mikey.settingslibrary.config;
+
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class PositionsIndex {
+
+    public static final Position DEFAULT = new Position(-1, 100, 1, true);
+
+    private final Map<String, Position> positions;
+    private final AtomicInteger highestPriority;
+
+    public PositionsIndex() {
+        this.positions = new ConcurrentHashMap<>();
+        this.highestPriority = new AtomicInteger(Integer.MIN_VALUE);
+    }
+
+    public static PositionsIndex load(ConfigurationSection section) {
+        PositionsIndex index = new PositionsIndex();
+        if (section == null)
+            return index;
+
+        for (String key : section.getKeys(false)) {
+            ConfigurationSection entry = section.getConfigurationSection(key);
+            if (entry == null)
+                continue;
+
+            index.put(key.toLowerCase().replace(" ", "-"), new Position(
+                    entry.getInt("slot", DEFAULT.slot()),
+                    entry.getInt("priority", DEFAULT.priority()),
+                    entry.getInt("page", DEFAULT.page()),
+                    entry.getBoolean("enabled", DEFAULT.enabled())));
+        }
+        return index;
+    }
+
+    public Position get(String settingsId) {
+        Position position = positions.get(settingsId);
+        return position != null ? position : DEFAULT;
+    }
+
+    public boolean contains(String settingsId) {
+        return positions.containsKey(settingsId);
+    }
+
+    public void put(String settingsId, Position position) {
+        positions.put(settingsId, position);
+        highestPriority.accumulateAndGet(position.priority(), Math::max);
+    }
+
+    public boolean putIfAbsent(String settingsId, Function<String, Position> factory) {
+        boolean[] added = new boolean[1];
+        Position position = positions.computeIfAbsent(settingsId, id -> {
+            added[0] = true;
+            return factory.apply(id);
+        });
+        if (added[0]) {
+            highestPriority.accumulateAndGet(position.priority(), Math::max);
+        }
+        return added[0];
+    }
+
+    public int getHighestPriority() {
+        return highestPriority.get();
+    }
+
+    public int size() {
+        return positions.size();
+    }
+
+    public Map<String, Position> getPositions() {
+        return Collections.unmodifiableMap(positions);
+    }
+
+    public record Position(int slot, int priority, int page, boolean enabled) {
+    }
+}
@@ -0,0 +1,148 @@
+package me.mikey.settingslibrary.config;
+
+import me.mikey.settingslibrary.config.PositionsIndex.Position;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class PositionsWriter {
+
+    private static final long SAVE_DELAY_MILLIS = 500L;
+
+    private final Logger logger;
+    private final ScheduledThreadPoolExecutor executor;
+    private final AtomicBoolean dirty;
+
+    private volatile Target target;
+    private volatile String lastWritten;
+
+    public PositionsWriter(Logger logger) {
+        this.logger = logger;
+        this.dirty = new AtomicBoolean();
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "SettingsLibrary-Positions");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    public void markDirty(File file, String source, PositionsIndex index) {
+        target = new Target(file, source, index);
+        if (!dirty.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.schedule(this::flush, SAVE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            logger.warning("Ignoring positions.yml change made after shutdown");
+        }
+    }
+
+    public boolean hasPendingWrite() {
+        return dirty.get();
+    }
+
+    public void shutdown(long timeout, TimeUnit unit) {
+        if (dirty.get()) {
+            executor.execute(this::flush);
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout, unit)) {
+                logger.warning("Timed out waiting for positions.yml to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+
+        Target current = target;
+        try {
+            write(current.file().toPath(), render(current));
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Failed to save positions.yml", e);
+        }
+    }
+
+    private String render(Target current) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        try {
+            yaml.loadFromString(current.source());
+        } catch (InvalidConfigurationException e) {
+            logger.log(Level.WARNING, "Could not parse the loaded positions.yml, rewriting it", e);
+            yaml = new YamlConfiguration();
+        }
+
+        ConfigurationSection plugins = yaml.getConfigurationSection("plugins");
+        if (plugins == null) {
+            plugins = yaml.createSection("plugins");
+        }
+
+        Map<String, String> existingKeys = new HashMap<>();
+        for (String key : plugins.getKeys(false)) {
+            existingKeys.put(key.toLowerCase().replace(" ", "-"), key);
+        }
+
+        Map<String, Position> positions = new TreeMap<>(current.index().getPositions());
+        for (Map.Entry<String, Position> entry : positions.entrySet()) {
+            String path = existingKeys.getOrDefault(entry.getKey(), entry.getKey());
+            Position position = entry.getValue();
+            plugins.set(path + ".slot", position.slot());
+            plugins.set(path + ".priority", position.priority());
+            plugins.set(path + ".page", position.page());
+            plugins.set(path + ".enabled", position.enabled());
+        }
+
+        return yaml.saveToString();
+    }
+
+    public boolean isLastWritten(String content) {
+        return content.equals(lastWritten);
+    }
+
+    private void write(Path path, String content) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        lastWritten = content;
+
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private record Target(File file, String source, PositionsIndex index) {
+    }
+}
@@ -1,6 +1,7 @@
 package me.mikey.settingslibrary.gui;
 
 import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.api.SettingEntry;
 import me.mikey.settingslibrary.api.SettingsProvider;
 import me.mikey.settingslibrary.config.ConfigManager;
 import me.mikey.settingslibrary.gui.GUIManager.SettingsMenuHolder;
@@ -53,8 +54,12 @@ public class GUIListener implements Listener {
             case PLUGIN -> handlePluginClick(event, holder, slot, player);
             case CLOSE -> player.closeInventory();
             case INFO -> handleInfoClick(event, holder, player);
+            case SEARCH -> guiManager.promptSearch(player);
             case SETTING -> handleSettingClick(event, holder, slot, player);
             case NAVIGATION -> handleNavigationClick(event, holder, slot, player);
+            case BACK -> guiManager.openMainMenu(player);
+            case PREVIOUS_PAGE -> guiManager.showPage(player, holder, holder.getPage() - 1);
+            case NEXT_PAGE -> guiManager.showPage(player, holder, holder.getPage() + 1);
             case BORDER, FILLER, SEPARATOR, ACCENT, EMPTY, UNKNOWN -> {}
         }
     }
@@ -69,17 +74,25 @@ public class GUIListener implements Listener {
             plugin.getLogger().info("Player " + player.getName() + " clicked plugin: " + provider.getSettingsId());
         }
 
-        if (provider.hasSubMenu()) {
-            guiManager.openSubMenu(player, provider);
-        } else {
-            provider.onClick(player, event.getClick());
-        }
+        guiManager.openProvider(player, provider, event.getClick());
     }
 
     private void handleInfoClick(InventoryClickEvent event, SettingsMenuHolder holder, Player player) {
     }
 
     private void handleSettingClick(InventoryClickEvent event, SettingsMenuHolder holder, int slot, Player player) {
+        SettingEntry entry = holder.getSlotEntry(slot);
+        if (entry == null || !entry.hasPermission(player)) {
+            return;
+        }
+
+        if (configManager.isDebugMode()) {
+            plugin.getLogger().info("Player " + player.getName() + " clicked setting: " + entry.getId());
+        }
+
+        plugin.getIntegrationManager().dispatchSettingClick(holder.getSubMenuProvider(), entry, player,
+                event.getClick());
+        guiManager.showPage(player, holder, holder.getPage());
     }
 
     private void handleNavigationClick(InventoryClickEvent event, SettingsMenuHolder holder, int slot, Player player) {
@@ -102,8 +115,8 @@ public class GUIListener implements Listener {
             return;
         }
 
-        if (event.getInventory().getHolder() instanceof SettingsMenuHolder) {
-            guiManager.closeMenu(player);
+        if (event.getInventory().getHolder() instanceof SettingsMenuHolder holder) {
+            guiManager.closeMenu(player, holder);
         }
     }
 }
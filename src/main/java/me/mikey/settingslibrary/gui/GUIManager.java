@@ -1,11 +1,25 @@
 package me.mikey.settingslibrary.gui;
 
 import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.api.SettingEntry;
+import me.mikey.settingslibrary.api.SettingType;
 import me.mikey.settingslibrary.api.SettingsProvider;
 import me.mikey.settingslibrary.config.ConfigManager;
 import me.mikey.settingslibrary.config.ConfigManager.*;
+import me.mikey.settingslibrary.config.ConfigSnapshot;
+import me.mikey.settingslibrary.config.PositionsIndex.Position;
+import me.mikey.settingslibrary.gui.MenuFrame.DynamicSlot;
+import me.mikey.settingslibrary.gui.MenuFrame.Page;
+import me.mikey.settingslibrary.gui.MenuFrame.Placement;
+import me.mikey.settingslibrary.gui.SubMenuRenderer.NavigationSlot;
+import me.mikey.settingslibrary.manager.CompiledText;
+import me.mikey.settingslibrary.manager.PlaceholderManager;
+import me.mikey.settingslibrary.manager.ProviderRegistry;
+import me.mikey.settingslibrary.manager.SearchIndex;
+import me.mikey.settingslibrary.util.ItemTemplate;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
@@ -13,20 +27,44 @@ import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class GUIManager {
 
+    private static final int MAX_SEARCH_RESULTS = 270;
+
     private final SettingsLibraryPlugin plugin;
     private final ConfigManager configManager;
 
     private final Map<UUID, SettingsMenuHolder> openMenus;
-    private final Map<String, ItemStack> decoratorCache;
+    private final AtomicInteger frameGeneration;
+    private final Set<UUID> dirtyMenus;
+    private final AtomicBoolean refreshScheduled;
+    private final AtomicInteger refreshEpoch;
+    private final SearchPrompt searchPrompt;
+    private volatile ConfigSnapshot config;
+    private volatile MenuLayout layout;
+    private volatile MenuFrame frame;
+    private volatile SubMenuRenderer subMenuRenderer;
+    private volatile NavigationSlot previousPageSlot;
+    private volatile NavigationSlot nextPageSlot;
+    private volatile CompiledText menuTitle;
+    private volatile CompiledText subMenuTitle;
+    private volatile CompiledText searchTitle;
+    private volatile PlaceholderItem closeItem;
+    private volatile PlaceholderItem infoItem;
+    private volatile PlaceholderItem searchItem;
 
     public GUIManager(SettingsLibraryPlugin plugin) {
         this.plugin = plugin;
         this.configManager = plugin.getConfigManager();
         this.openMenus = new ConcurrentHashMap<>();
-        this.decoratorCache = new HashMap<>();
+        this.frameGeneration = new AtomicInteger();
+        this.dirtyMenus = ConcurrentHashMap.newKeySet();
+        this.refreshScheduled = new AtomicBoolean();
+        this.refreshEpoch = new AtomicInteger();
+        this.searchPrompt = new SearchPrompt(plugin);
     }
 
     public void initialize() {
@@ -34,18 +72,128 @@ public class GUIManager {
     }
 
     public void rebuildDecoratorCache() {
-        decoratorCache.clear();
-
-        GUITemplate template = configManager.getActiveTemplate();
-        Map<String, DecoratorItem> baseDecorators = configManager.getDecorators();
-        Map<String, DecoratorItem> templateOverrides = configManager.getTemplateDecorators(template.id());
+        ConfigSnapshot config = configManager.getSnapshot();
+        GUITemplate template = config.activeTemplate();
+        Map<String, DecoratorItem> baseDecorators = config.decorators();
+        Map<String, DecoratorItem> templateOverrides = config.getTemplateDecorators(template.id());
 
         Map<String, DecoratorItem> merged = new HashMap<>(baseDecorators);
         merged.putAll(templateOverrides);
 
+        Map<String, ItemStack> decoratorItems = new HashMap<>();
         for (Map.Entry<String, DecoratorItem> entry : merged.entrySet()) {
-            decoratorCache.put(entry.getKey(), createDecoratorItem(entry.getValue()));
+            decoratorItems.put(entry.getKey(), createDecoratorItem(entry.getValue()));
+        }
+
+        PlaceholderManager placeholders = plugin.getPlaceholderManager();
+        menuTitle = placeholders.compile(config.menuTitle());
+        subMenuTitle = placeholders.compile(config.subMenuTitle());
+        searchTitle = placeholders.compile(config.searchTitle());
+        closeItem = compileNavigationItem(config, "close");
+        infoItem = compileNavigationItem(config, "info");
+        searchItem = compileNavigationItem(config, "search");
+
+        layout = MenuLayout.compile(template, decoratorItems);
+        previousPageSlot = createNavigationSlot(config, "previous-page");
+        nextPageSlot = createNavigationSlot(config, "next-page");
+        subMenuRenderer = new SubMenuRenderer(
+                decoratorItems.get("filler"),
+                createNavigationSlot(config, "back"),
+                previousPageSlot,
+                nextPageSlot);
+        this.config = config;
+        invalidateFrame();
+    }
+
+    private NavigationSlot createNavigationSlot(ConfigSnapshot config, String key) {
+        NavigationItem navItem = config.navigationItems().get(key);
+        if (navItem == null || !navItem.enabled()) {
+            return null;
+        }
+        return new NavigationSlot(navItem.slot() % 9, compileNavigationItem(config, key).render(null));
+    }
+
+    private PlaceholderItem compileNavigationItem(ConfigSnapshot config, String key) {
+        NavigationItem navItem = config.navigationItems().get(key);
+        if (navItem == null || !navItem.enabled()) {
+            return null;
+        }
+        return PlaceholderItem.compile(navItem, plugin.getPlaceholderManager());
+    }
+
+    public void invalidateFrame() {
+        frameGeneration.incrementAndGet();
+    }
+
+    private MenuFrame getFrame() {
+        int generation = frameGeneration.get();
+        ProviderRegistry.Snapshot providers = plugin.getIntegrationManager().getRegistry().snapshot();
+        MenuFrame current = frame;
+        if (current == null || current.generation() != generation
+                || current.registryVersion() != providers.version()) {
+            current = buildFrame(generation, providers);
+            frame = current;
+        }
+        return current;
+    }
+
+    private MenuFrame buildFrame(int generation, ProviderRegistry.Snapshot providers) {
+        ConfigSnapshot config = this.config;
+        MenuLayout layout = this.layout;
+        int size = layout.getSize();
+        ItemStack[] contents = new ItemStack[size];
+        SlotType[] slotTypes = new SlotType[size];
+
+        for (int slot = 0; slot < size; slot++) {
+            contents[slot] = layout.getDecoratorItem(slot);
+            slotTypes[slot] = layout.getSlotType(slot);
         }
+
+        Map<String, Object> locals = Map.of("plugin_count", providers.size());
+        Map<Integer, PlaceholderItem> dynamicItems = new HashMap<>();
+
+        placeNavigationItem(config.navigationItems().get("close"), closeItem, SlotType.CLOSE, locals,
+                contents, slotTypes, dynamicItems);
+        placeNavigationItem(config.navigationItems().get("info"), infoItem, SlotType.INFO, locals,
+                contents, slotTypes, dynamicItems);
+        placeNavigationItem(config.navigationItems().get("search"), searchItem, SlotType.SEARCH, locals,
+                contents, slotTypes, dynamicItems);
+
+        return MenuFrame.build(generation, providers.version(), layout, contents, slotTypes, dynamicItems,
+                menuTitle.fold(locals), placements(providers), previousPageSlot, nextPageSlot, plugin.getLogger());
+    }
+
+    private void placeNavigationItem(NavigationItem navItem, PlaceholderItem template, SlotType type,
+                                     Map<String, Object> locals, ItemStack[] contents, SlotType[] slotTypes,
+                                     Map<Integer, PlaceholderItem> dynamicItems) {
+        if (navItem == null || template == null || navItem.slot() >= contents.length) {
+            return;
+        }
+
+        PlaceholderItem item = template.fold(locals);
+        contents[navItem.slot()] = item.render(null);
+        slotTypes[navItem.slot()] = type;
+        if (!item.isConstant()) {
+            dynamicItems.put(navItem.slot(), item);
+        }
+    }
+
+    private List<Placement> placements(ProviderRegistry.Snapshot providers) {
+        ProviderRegistry.Entry[] sorted = providers.sorted();
+
+        List<Placement> placements = new ArrayList<>(sorted.length);
+        for (ProviderRegistry.Entry entry : sorted) {
+            Position position = configManager.getPluginPosition(entry.settingsId());
+            if (!entry.provider().isEnabled() || !position.enabled()) {
+                continue;
+            }
+            placements.add(new Placement(entry.settingsId(), entry.provider(), position, entry.priority()));
+        }
+        return placements;
+    }
+
+    public MenuLayout getLayout() {
+        return layout;
     }
 
     private ItemStack createDecoratorItem(DecoratorItem decorator) {
@@ -58,32 +206,26 @@ public class GUIManager {
             }
             item.setItemMeta(meta);
         }
-        return item;
+        return ItemTemplate.of(item).shared();
     }
 
     public void openMainMenu(Player player) {
         closeMenu(player);
 
-        GUITemplate template = configManager.getActiveTemplate();
-        int size = template.size();
-        String title = configManager.getMenuTitle();
-
-        title = title.replace("{version}", plugin.getDescription().getVersion())
-                .replace("{plugin_count}", String.valueOf(plugin.getIntegrationManager().getProviderCount()));
+        MenuFrame frame = getFrame();
+        int size = frame.layout().getSize();
+        String title = frame.page(0).title().render(player);
 
-        SettingsMenuHolder holder = new SettingsMenuHolder(plugin, MenuType.MAIN, null);
+        SettingsMenuHolder holder = new SettingsMenuHolder(plugin, MenuType.MAIN, null, size);
         Inventory inventory = Bukkit.createInventory(holder, size, title);
         holder.setInventory(inventory);
+        holder.setTitle(title);
 
-        fillInventoryWithTemplate(inventory, template, holder);
-        placePluginItems(inventory, template, holder, player);
-        placeNavigationItems(inventory, holder);
+        inventory.setContents(renderMainPage(player, frame, 0, holder));
 
         openMenus.put(player.getUniqueId(), holder);
 
-        for (SettingsProvider provider : plugin.getIntegrationManager().getProviders()) {
-            provider.onMenuOpen(player);
-        }
+        plugin.getIntegrationManager().notifyMenuOpen(player);
 
         SoundConfig openSound = configManager.getOpenSound();
         if (openSound.enabled() && openSound.sound() != null) {
@@ -91,139 +233,241 @@ public class GUIManager {
         }
 
         player.openInventory(inventory);
+        prefetchNextPage(player, holder, frame);
+    }
+
+    private void updateMainMenu(Player player, SettingsMenuHolder holder) {
+        MenuFrame frame = getFrame();
+
+        if (holder.getInventory().getSize() != frame.layout().getSize() || !isViewing(player, holder)) {
+            openMainMenu(player);
+            return;
+        }
+
+        int page = Math.min(holder.getPage(), frame.pageCount() - 1);
+        ItemStack[] contents = renderMainPage(player, frame, page, holder);
+        applyContents(player, holder, contents, frame.page(page).title().render(player));
+        prefetchNextPage(player, holder, frame);
+    }
+
+    private ItemStack[] renderMainPage(Player player, MenuFrame frame, int pageIndex, SettingsMenuHolder holder) {
+        Page page = frame.page(pageIndex);
+
+        ItemStack[] contents = holder.takePrefetched(frame, refreshEpoch.get(), pageIndex);
+        if (contents == null) {
+            contents = renderPageContents(player, page);
+        }
+
+        holder.resetSlots(page.slotTypes(), page.providers());
+        SettingsProvider[] providers = page.providers();
+        for (int slot = 0; slot < providers.length; slot++) {
+            if (providers[slot] != null && contents[slot] == page.contents()[slot]) {
+                holder.setSlotType(slot, SlotType.EMPTY);
+                holder.setSlotProvider(slot, null);
+            }
+        }
+        holder.setPageCount(frame.pageCount());
+        holder.setPage(pageIndex);
+        return contents;
+    }
+
+    private ItemStack[] renderPageContents(Player player, Page page) {
+        ItemStack[] contents = page.contents().clone();
+        SettingsProvider[] providers = page.providers();
+        String[] settingsIds = page.settingsIds();
+
+        for (int slot = 0; slot < providers.length; slot++) {
+            if (providers[slot] != null) {
+                ItemStack displayItem = plugin.getIntegrationManager().getDisplayItem(settingsIds[slot], providers[slot]);
+                if (displayItem != null) {
+                    contents[slot] = displayItem;
+                }
+            }
+        }
+        for (DynamicSlot dynamic : page.dynamicSlots()) {
+            contents[dynamic.slot()] = dynamic.item().render(player);
+        }
+        return contents;
+    }
+
+    private void prefetchNextPage(Player player, SettingsMenuHolder holder, MenuFrame frame) {
+        int nextPage = holder.getPage() + 1;
+        if (nextPage >= frame.pageCount()) {
+            return;
+        }
+
+        UUID uuid = player.getUniqueId();
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            MenuFrame current = getFrame();
+            if (openMenus.get(uuid) != holder || holder.getPage() + 1 != nextPage || current != frame) {
+                return;
+            }
+            int epoch = refreshEpoch.get();
+            holder.setPrefetched(current, epoch, nextPage, renderPageContents(player, current.page(nextPage)));
+        });
+    }
+
+    private boolean isViewing(Player player, SettingsMenuHolder holder) {
+        return player.getOpenInventory().getTopInventory() == holder.getInventory();
+    }
+
+    private void applyContents(Player player, SettingsMenuHolder holder, ItemStack[] contents, String title) {
+        Inventory inventory = holder.getInventory();
+        for (int slot = 0; slot < contents.length; slot++) {
+            if (!Objects.equals(inventory.getItem(slot), contents[slot])) {
+                inventory.setItem(slot, contents[slot]);
+            }
+        }
+
+        if (!title.equals(holder.getTitle())) {
+            player.getOpenInventory().setTitle(title);
+            holder.setTitle(title);
+        }
     }
 
     public void openSubMenu(Player player, SettingsProvider provider) {
+        openSubMenu(player, provider, plugin.getIntegrationManager().fetchSettings(provider));
+    }
+
+    public void openSubMenu(Player player, SettingsProvider provider, List<SettingEntry> settings) {
         closeMenu(player);
-        provider.onClick(player, null);
+
+        List<SettingEntry> entries = SubMenuRenderer.visibleEntries(settings, player);
+        if (entries.isEmpty()) {
+            plugin.getIntegrationManager().dispatchClick(provider, player, null);
+            return;
+        }
+
+        int size = SubMenuRenderer.sizeFor(entries);
+        SettingsMenuHolder holder = new SettingsMenuHolder(plugin, MenuType.SUB_MENU, provider, size);
+        holder.setPages(SubMenuRenderer.paginate(entries, size - 9));
+        openEntryMenu(player, holder);
     }
 
-    private void fillInventoryWithTemplate(Inventory inventory, GUITemplate template, SettingsMenuHolder holder) {
-        Map<Integer, Character> pattern = template.parsePattern();
+    public void openProvider(Player player, SettingsProvider provider, ClickType clickType) {
+        List<SettingEntry> settings = plugin.getIntegrationManager().fetchSettings(provider);
+        if (settings != null && !settings.isEmpty()) {
+            openSubMenu(player, provider, settings);
+        } else {
+            plugin.getIntegrationManager().dispatchClick(provider, player, clickType);
+        }
+    }
 
-        for (Map.Entry<Integer, Character> entry : pattern.entrySet()) {
-            int slot = entry.getKey();
-            char patternChar = entry.getValue();
+    public void promptSearch(Player player) {
+        searchPrompt.begin(player);
+    }
 
-            if (slot >= inventory.getSize()) continue;
+    public SearchPrompt getSearchPrompt() {
+        return searchPrompt;
+    }
 
-            ItemStack item = getItemForPattern(patternChar);
-            if (item != null) {
-                inventory.setItem(slot, item);
-                holder.setSlotType(slot, getSlotType(patternChar));
+    public void openSearchResults(Player player, String query) {
+        List<SettingEntry> results = new ArrayList<>();
+        for (SearchIndex.Document result : plugin.getIntegrationManager().search(query, MAX_SEARCH_RESULTS)) {
+            if (result.provider().isEnabled() && configManager.isPluginEnabled(result.settingsId())) {
+                results.add(toSearchResult(result));
             }
         }
+
+        List<SettingEntry> entries = SubMenuRenderer.visibleEntries(results, player);
+        if (entries.isEmpty()) {
+            player.sendMessage(configManager.getMessages().prefixed("search-no-results", Map.of("query", query)));
+            return;
+        }
+
+        closeMenu(player);
+
+        int size = SubMenuRenderer.sizeFor(entries);
+        SettingsMenuHolder holder = new SettingsMenuHolder(plugin, MenuType.SEARCH, null, size);
+        holder.setSearchQuery(query);
+        holder.setPages(SubMenuRenderer.paginate(entries, size - 9));
+        openEntryMenu(player, holder);
     }
 
-    private ItemStack getItemForPattern(char patternChar) {
-        return switch (patternChar) {
-            case 'B' -> decoratorCache.get("border");
-            case 'F' -> decoratorCache.get("filler");
-            case 'S' -> decoratorCache.get("separator");
-            case 'A' -> decoratorCache.get("accent");
-            case 'X' -> null;
-            default -> null;
-        };
-    }
-
-    private SlotType getSlotType(char patternChar) {
-        return switch (patternChar) {
-            case 'B' -> SlotType.BORDER;
-            case 'F' -> SlotType.FILLER;
-            case 'S' -> SlotType.SEPARATOR;
-            case 'A' -> SlotType.ACCENT;
-            case 'P' -> SlotType.PLUGIN;
-            case 'N' -> SlotType.NAVIGATION;
-            case 'C' -> SlotType.CLOSE;
-            case 'I' -> SlotType.INFO;
-            case 'X' -> SlotType.EMPTY;
-            default -> SlotType.UNKNOWN;
-        };
-    }
-
-    private void placePluginItems(Inventory inventory, GUITemplate template, SettingsMenuHolder holder, Player player) {
-        Collection<SettingsProvider> providers = plugin.getIntegrationManager().getProviders();
-        List<Integer> pluginSlots = template.getPluginSlots();
-
-        List<SettingsProvider> sortedProviders = new ArrayList<>(providers);
-        sortedProviders.sort(Comparator.comparingInt(p -> {
-            int configPriority = configManager.getPluginPriority(p.getSettingsId());
-            return Math.min(p.getPriority(), configPriority);
-        }));
-
-        sortedProviders.removeIf(p -> !p.isEnabled() || !configManager.isPluginEnabled(p.getSettingsId()));
-
-        int pluginIndex = 0;
-        for (SettingsProvider provider : sortedProviders) {
-            int configuredSlot = configManager.getPluginSlot(provider.getSettingsId());
-            int targetSlot;
-
-            if (configuredSlot >= 0 && configuredSlot < inventory.getSize()) {
-                targetSlot = configuredSlot;
-            } else if (pluginIndex < pluginSlots.size()) {
-                targetSlot = pluginSlots.get(pluginIndex);
-                pluginIndex++;
+    private SettingEntry toSearchResult(SearchIndex.Document result) {
+        String settingsId = result.settingsId();
+        SettingsProvider provider = result.provider();
+        SettingEntry entry = result.entry();
+
+        SettingEntry.Builder builder = SettingEntry.builder(
+                entry != null ? settingsId + ":" + entry.getId() : settingsId, SettingType.CUSTOM);
+        if (entry != null) {
+            if (entry.isViewerDependent()) {
+                builder.itemRenderer(entry.getItemRenderer());
             } else {
-                plugin.getLogger().warning("No slot available for plugin: " + provider.getSettingsId());
-                continue;
+                builder.itemSupplier(entry::getItem);
             }
+            builder.permission(entry.getPermission());
+        } else {
+            builder.itemSupplier(() -> plugin.getIntegrationManager().getDisplayItem(settingsId, provider));
+        }
 
-            ItemStack displayItem = provider.getDisplayItem();
-            if (displayItem != null) {
-                inventory.setItem(targetSlot, displayItem);
-                holder.setSlotType(targetSlot, SlotType.PLUGIN);
-                holder.setSlotProvider(targetSlot, provider);
+        return builder.clickHandler((player, clickType) -> {
+            if (plugin.getIntegrationManager().getProvider(settingsId).orElse(null) != provider) {
+                openMainMenu(player);
+            } else if (entry != null) {
+                openSubMenu(player, provider);
+            } else {
+                openProvider(player, provider, clickType);
             }
-        }
+        }).build();
     }
 
-    private void placeNavigationItems(Inventory inventory, SettingsMenuHolder holder) {
-        NavigationItem closeItem = configManager.getNavigationItem("close");
-        if (closeItem != null && closeItem.enabled()) {
-            ItemStack item = createNavigationItem(closeItem);
-            inventory.setItem(closeItem.slot(), item);
-            holder.setSlotType(closeItem.slot(), SlotType.CLOSE);
+    private void openEntryMenu(Player player, SettingsMenuHolder holder) {
+        int size = holder.getSize();
+        String title = getEntryMenuTitle(player, holder);
+        Inventory inventory = Bukkit.createInventory(holder, size, title);
+        holder.setInventory(inventory);
+        holder.setTitle(title);
+
+        inventory.setContents(subMenuRenderer.render(holder, player));
+
+        openMenus.put(player.getUniqueId(), holder);
+
+        SoundConfig openSound = configManager.getOpenSound();
+        if (openSound.enabled() && openSound.sound() != null) {
+            player.playSound(player.getLocation(), openSound.sound(), openSound.volume(), openSound.pitch());
         }
 
-        NavigationItem infoItem = configManager.getNavigationItem("info");
-        if (infoItem != null && infoItem.enabled()) {
-            ItemStack item = createNavigationItem(infoItem);
+        player.openInventory(inventory);
+    }
 
-            ItemMeta meta = item.getItemMeta();
-            if (meta != null && meta.hasLore()) {
-                List<String> lore = meta.getLore();
-                List<String> newLore = new ArrayList<>();
-                for (String line : lore) {
-                    line = line.replace("{version}", plugin.getDescription().getVersion())
-                            .replace("{plugin_count}", String.valueOf(plugin.getIntegrationManager().getProviderCount()));
-                    newLore.add(line);
-                }
-                meta.setLore(newLore);
-                item.setItemMeta(meta);
-            }
+    public void showPage(Player player, SettingsMenuHolder holder, int page) {
+        if (!isViewing(player, holder) || page < 0 || page >= holder.getPageCount()) {
+            return;
+        }
 
-            inventory.setItem(infoItem.slot(), item);
-            holder.setSlotType(infoItem.slot(), SlotType.INFO);
+        holder.setPage(page);
+        if (holder.getMenuType() == MenuType.MAIN) {
+            updateMainMenu(player, holder);
+        } else {
+            applyContents(player, holder, subMenuRenderer.render(holder, player), getEntryMenuTitle(player, holder));
         }
     }
 
-    private ItemStack createNavigationItem(NavigationItem navItem) {
-        ItemStack item = new ItemStack(navItem.material());
-        ItemMeta meta = item.getItemMeta();
-        if (meta != null) {
-            meta.setDisplayName(navItem.name());
-            meta.setLore(navItem.lore());
-            item.setItemMeta(meta);
+    private String getEntryMenuTitle(Player player, SettingsMenuHolder holder) {
+        if (holder.getMenuType() == MenuType.SEARCH) {
+            return searchTitle.render(player, Map.of(
+                    "query", holder.getSearchQuery(),
+                    "page", holder.getPage() + 1,
+                    "pages", holder.getPageCount()));
+        }
+        return subMenuTitle.render(player, Map.of(
+                "plugin", ConfigManager.colorize(holder.getSubMenuProvider().getDisplayName()),
+                "page", holder.getPage() + 1,
+                "pages", holder.getPageCount()));
+    }
+
+    public void closeMenu(Player player, SettingsMenuHolder holder) {
+        if (openMenus.remove(player.getUniqueId(), holder)) {
+            plugin.getIntegrationManager().notifyMenuClose(player);
         }
-        return item;
     }
 
     public void closeMenu(Player player) {
         SettingsMenuHolder holder = openMenus.remove(player.getUniqueId());
         if (holder != null) {
-            for (SettingsProvider provider : plugin.getIntegrationManager().getProviders()) {
-                provider.onMenuClose(player);
-            }
+            plugin.getIntegrationManager().notifyMenuClose(player);
         }
     }
 
@@ -235,15 +479,92 @@ public class GUIManager {
         return openMenus.get(player.getUniqueId());
     }
 
+    public void requestRefresh() {
+        refreshEpoch.incrementAndGet();
+        dirtyMenus.addAll(openMenus.keySet());
+        scheduleRefresh();
+    }
+
+    public void requestRefresh(MenuType menuType) {
+        refreshEpoch.incrementAndGet();
+        for (Map.Entry<UUID, SettingsMenuHolder> entry : openMenus.entrySet()) {
+            if (entry.getValue().getMenuType() == menuType) {
+                dirtyMenus.add(entry.getKey());
+            }
+        }
+        scheduleRefresh();
+    }
+
+    public void applyReload(Set<ReloadScope> changes) {
+        if (changes.contains(ReloadScope.TITLES) || changes.contains(ReloadScope.DECORATORS)
+                || changes.contains(ReloadScope.LAYOUT)) {
+            rebuildDecoratorCache();
+            requestRefresh();
+        } else if (changes.contains(ReloadScope.POSITIONS)) {
+            plugin.getIntegrationManager().getRegistry().resort();
+            requestRefresh(MenuType.MAIN);
+        }
+    }
+
+    public void requestRefresh(Player player) {
+        if (openMenus.containsKey(player.getUniqueId())) {
+            dirtyMenus.add(player.getUniqueId());
+            scheduleRefresh();
+        }
+    }
+
+    private void scheduleRefresh() {
+        if (dirtyMenus.isEmpty() || !plugin.isEnabled()) {
+            return;
+        }
+        if (refreshScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTaskLater(plugin, this::drainRefreshes, configManager.getRefreshInterval());
+        }
+    }
+
+    private void drainRefreshes() {
+        refreshScheduled.set(false);
+
+        Iterator<UUID> iterator = dirtyMenus.iterator();
+        while (iterator.hasNext()) {
+            UUID uuid = iterator.next();
+            iterator.remove();
+
+            Player player = Bukkit.getPlayer(uuid);
+            SettingsMenuHolder holder = openMenus.get(uuid);
+            if (player != null && player.isOnline() && holder != null) {
+                refreshMenu(player, holder);
+            }
+        }
+    }
+
     public void refreshAllMenus() {
         for (Map.Entry<UUID, SettingsMenuHolder> entry : openMenus.entrySet()) {
             Player player = Bukkit.getPlayer(entry.getKey());
             if (player != null && player.isOnline()) {
-                openMainMenu(player);
+                refreshMenu(player, entry.getValue());
             }
         }
     }
 
+    private void refreshMenu(Player player, SettingsMenuHolder holder) {
+        if (holder.getMenuType() == MenuType.SEARCH) {
+            showPage(player, holder, holder.getPage());
+            return;
+        }
+        if (holder.getMenuType() != MenuType.SUB_MENU) {
+            updateMainMenu(player, holder);
+            return;
+        }
+
+        SettingsProvider provider = holder.getSubMenuProvider();
+        if (plugin.getIntegrationManager().getProvider(provider.getSettingsId()).orElse(null) != provider) {
+            openMainMenu(player);
+        } else {
+            showPage(player, holder, holder.getPage());
+        }
+    }
+
     public int getOpenMenuCount() {
         return openMenus.size();
     }
@@ -251,7 +572,8 @@ public class GUIManager {
     public enum MenuType {
         MAIN,
         SUB_MENU,
-        PLUGIN_SETTINGS
+        PLUGIN_SETTINGS,
+        SEARCH
     }
 
     public enum SlotType {
@@ -262,28 +584,56 @@ public class GUIManager {
         ACCENT,
         PLUGIN,
         NAVIGATION,
+        BACK,
+        PREVIOUS_PAGE,
+        NEXT_PAGE,
         CLOSE,
         INFO,
+        SEARCH,
         SETTING,
         UNKNOWN
     }
 
     public static class SettingsMenuHolder implements InventoryHolder {
 
+        private static final int MAX_SIZE = 54;
+
         private final SettingsLibraryPlugin plugin;
         private final MenuType menuType;
         private final SettingsProvider subMenuProvider;
         private Inventory inventory;
+        private String title;
+
+        private SlotType[] slotTypes;
+        private boolean slotTypesShared;
+        private SettingsProvider[] slotProviders;
+        private boolean slotProvidersShared;
+        private final SettingEntry[] slotEntries;
 
-        private final Map<Integer, SlotType> slotTypes;
-        private final Map<Integer, SettingsProvider> slotProviders;
+        private List<SettingEntry[]> pages;
+        private int page;
+        private int pageCount;
+        private String searchQuery;
+
+        private ItemStack[] prefetchedContents;
+        private MenuFrame prefetchedFrame;
+        private int prefetchedEpoch;
+        private int prefetchedPage;
 
         public SettingsMenuHolder(SettingsLibraryPlugin plugin, MenuType menuType, SettingsProvider subMenuProvider) {
+            this(plugin, menuType, subMenuProvider, MAX_SIZE);
+        }
+
+        public SettingsMenuHolder(SettingsLibraryPlugin plugin, MenuType menuType, SettingsProvider subMenuProvider,
+                                  int size) {
             this.plugin = plugin;
             this.menuType = menuType;
             this.subMenuProvider = subMenuProvider;
-            this.slotTypes = new HashMap<>();
-            this.slotProviders = new HashMap<>();
+            this.slotTypes = new SlotType[size];
+            this.slotProviders = new SettingsProvider[size];
+            this.slotEntries = new SettingEntry[size];
+            this.pages = Collections.emptyList();
+            this.pageCount = 1;
         }
 
         @Override
@@ -295,10 +645,22 @@ public class GUIManager {
             this.inventory = inventory;
         }
 
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
         public SettingsLibraryPlugin getPlugin() {
             return plugin;
         }
 
+        public int getSize() {
+            return slotEntries.length;
+        }
+
         public MenuType getMenuType() {
             return menuType;
         }
@@ -308,19 +670,117 @@ public class GUIManager {
         }
 
         public SlotType getSlotType(int slot) {
-            return slotTypes.getOrDefault(slot, SlotType.UNKNOWN);
+            if (slot < 0 || slot >= slotTypes.length) {
+                return SlotType.UNKNOWN;
+            }
+            SlotType type = slotTypes[slot];
+            return type != null ? type : SlotType.UNKNOWN;
         }
 
         public void setSlotType(int slot, SlotType type) {
-            slotTypes.put(slot, type);
+            if (slotTypesShared) {
+                slotTypes = slotTypes.clone();
+                slotTypesShared = false;
+            }
+            slotTypes[slot] = type;
         }
 
         public SettingsProvider getSlotProvider(int slot) {
-            return slotProviders.get(slot);
+            if (slot < 0 || slot >= slotProviders.length) {
+                return null;
+            }
+            return slotProviders[slot];
         }
 
         public void setSlotProvider(int slot, SettingsProvider provider) {
-            slotProviders.put(slot, provider);
+            if (slotProvidersShared) {
+                slotProviders = slotProviders.clone();
+                slotProvidersShared = false;
+            }
+            slotProviders[slot] = provider;
+        }
+
+        public SettingEntry getSlotEntry(int slot) {
+            if (slot < 0 || slot >= slotEntries.length) {
+                return null;
+            }
+            return slotEntries[slot];
+        }
+
+        public void setSlotEntry(int slot, SettingEntry entry) {
+            slotEntries[slot] = entry;
+        }
+
+        public int getPage() {
+            return page;
+        }
+
+        public void setPage(int page) {
+            this.page = page;
+        }
+
+        public int getPageCount() {
+            return pageCount;
+        }
+
+        public void setPageCount(int pageCount) {
+            this.pageCount = pageCount;
+        }
+
+        public String getSearchQuery() {
+            return searchQuery;
+        }
+
+        public void setSearchQuery(String searchQuery) {
+            this.searchQuery = searchQuery;
+        }
+
+        public SettingEntry[] getPageEntries(int page) {
+            return pages.get(page);
+        }
+
+        public void setPages(List<SettingEntry[]> pages) {
+            this.pages = pages;
+            this.pageCount = pages.size();
+            this.page = 0;
+        }
+
+        ItemStack[] takePrefetched(MenuFrame frame, int epoch, int page) {
+            ItemStack[] contents = prefetchedContents;
+            MenuFrame contentsFrame = prefetchedFrame;
+            prefetchedContents = null;
+            prefetchedFrame = null;
+            if (contents == null || contentsFrame != frame || prefetchedEpoch != epoch || prefetchedPage != page) {
+                return null;
+            }
+            return contents;
+        }
+
+        void setPrefetched(MenuFrame frame, int epoch, int page, ItemStack[] contents) {
+            this.prefetchedFrame = frame;
+            this.prefetchedEpoch = epoch;
+            this.prefetchedPage = page;
+            this.prefetchedContents = contents;
+        }
+
+        public void resetSlots(SlotType[] sharedSlotTypes) {
+            resetSlots(sharedSlotTypes, null);
+        }
+
+        public void resetSlots(SlotType[] sharedSlotTypes, SettingsProvider[] sharedProviders) {
+            slotTypes = sharedSlotTypes;
+            slotTypesShared = true;
+
+            if (sharedProviders != null) {
+                slotProviders = sharedProviders;
+                slotProvidersShared = true;
+            } else if (slotProvidersShared) {
+                slotProviders = new SettingsProvider[slotEntries.length];
+                slotProvidersShared = false;
+            } else {
+                Arrays.fill(slotProviders, null);
+            }
+            Arrays.fill(slotEntries, null);
         }
     }
 }
@@ -0,0 +1,207 @@
+package me.mikey.settingslibrary.gui;
+
+import me.mikey.settingslibrary.api.SettingsProvider;
+import me.mikey.settingslibrary.config.PositionsIndex.Position;
+import me.mikey.settingslibrary.gui.GUIManager.SlotType;
+import me.mikey.settingslibrary.gui.SubMenuRenderer.NavigationSlot;
+import me.mikey.settingslibrary.manager.CompiledText;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+final class MenuFrame {
+
+    private static final Placement RESERVED = new Placement(null, null, null, 0);
+
+    private final int generation;
+    private final long registryVersion;
+    private final MenuLayout layout;
+    private final List<Page> pages;
+
+    private MenuFrame(int generation, long registryVersion, MenuLayout layout, List<Page> pages) {
+        this.generation = generation;
+        this.registryVersion = registryVersion;
+        this.layout = layout;
+        this.pages = pages;
+    }
+
+    static MenuFrame build(int generation, long registryVersion, MenuLayout layout, ItemStack[] baseContents, SlotType[] baseSlotTypes,
+                           Map<Integer, PlaceholderItem> dynamicItems, CompiledText title,
+                           List<Placement> placements, NavigationSlot previousPage, NavigationSlot nextPage,
+                           Logger logger) {
+        int size = layout.getSize();
+        int rowStart = size - 9;
+        int previousSlot = previousPage != null && rowStart >= 0 ? rowStart + previousPage.column() : -1;
+        int nextSlot = nextPage != null && rowStart >= 0 ? rowStart + nextPage.column() : -1;
+
+        List<Placement[]> assigned;
+        int pagesWithNext = 0;
+        while (true) {
+            assigned = assignPages(layout, placements, new Reserved(previousSlot, nextSlot, pagesWithNext), logger);
+            if (assigned.size() - 1 <= pagesWithNext) {
+                break;
+            }
+            pagesWithNext = assigned.size() - 1;
+        }
+        int pageCount = assigned.size();
+
+        List<Page> pages = new ArrayList<>(pageCount);
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+            ItemStack[] contents = baseContents.clone();
+            SlotType[] slotTypes = baseSlotTypes.clone();
+            SettingsProvider[] providers = new SettingsProvider[size];
+            String[] settingsIds = new String[size];
+
+            Placement[] page = assigned.get(pageIndex);
+            for (int slot = 0; slot < size; slot++) {
+                if (page[slot] != null && page[slot] != RESERVED) {
+                    providers[slot] = page[slot].provider();
+                    settingsIds[slot] = page[slot].settingsId();
+                    slotTypes[slot] = SlotType.PLUGIN;
+                }
+            }
+
+            if (pageIndex > 0 && previousSlot >= 0) {
+                placeNavigation(previousSlot, previousPage.item(), SlotType.PREVIOUS_PAGE,
+                        contents, slotTypes, providers, settingsIds);
+            }
+            if (pageIndex < pageCount - 1 && nextSlot >= 0) {
+                placeNavigation(nextSlot, nextPage.item(), SlotType.NEXT_PAGE,
+                        contents, slotTypes, providers, settingsIds);
+            }
+
+            List<DynamicSlot> dynamicSlots = new ArrayList<>();
+            for (Map.Entry<Integer, PlaceholderItem> entry : dynamicItems.entrySet()) {
+                int slot = entry.getKey();
+                if (slotTypes[slot] == baseSlotTypes[slot]) {
+                    dynamicSlots.add(new DynamicSlot(slot, entry.getValue()));
+                }
+            }
+
+            CompiledText pageTitle = title.fold(Map.of("page", pageIndex + 1, "pages", pageCount));
+
+            pages.add(new Page(pageTitle, contents, slotTypes, providers, settingsIds, List.copyOf(dynamicSlots)));
+        }
+
+        return new MenuFrame(generation, registryVersion, layout, List.copyOf(pages));
+    }
+
+    private static void placeNavigation(int slot, ItemStack item, SlotType type, ItemStack[] contents,
+                                        SlotType[] slotTypes, SettingsProvider[] providers, String[] settingsIds) {
+        contents[slot] = item;
+        slotTypes[slot] = type;
+        providers[slot] = null;
+        settingsIds[slot] = null;
+    }
+
+    private static List<Placement[]> assignPages(MenuLayout layout, List<Placement> placements, Reserved reserved,
+                                                 Logger logger) {
+        int size = layout.getSize();
+        List<Placement[]> pages = new ArrayList<>();
+        List<List<Placement>> flowing = new ArrayList<>();
+        pageAt(pages, 0, size, reserved);
+
+        for (Placement placement : placements) {
+            int pageIndex = Math.max(0, placement.position().page() - 1);
+            Placement[] page = pageAt(pages, pageIndex, size, reserved);
+            int slot = placement.position().slot();
+
+            if (slot >= 0 && slot < size && page[slot] == null) {
+                page[slot] = placement;
+            } else {
+                while (flowing.size() <= pageIndex) {
+                    flowing.add(new ArrayList<>());
+                }
+                flowing.get(pageIndex).add(placement);
+            }
+        }
+
+        Deque<Placement> queue = new ArrayDeque<>();
+        for (int pageIndex = 0; pageIndex < flowing.size() || !queue.isEmpty(); pageIndex++) {
+            if (pageIndex < flowing.size()) {
+                queue.addAll(flowing.get(pageIndex));
+            }
+            if (queue.isEmpty()) {
+                continue;
+            }
+            if (layout.getPluginSlotCount() == 0) {
+                for (Placement placement : queue) {
+                    logger.warning("No slot available for plugin: " + placement.settingsId());
+                }
+                break;
+            }
+
+            boolean fresh = pageIndex >= pages.size();
+            Placement[] page = pageAt(pages, pageIndex, size, reserved);
+            int placed = 0;
+            for (int i = 0; i < layout.getPluginSlotCount() && !queue.isEmpty(); i++) {
+                int slot = layout.getPluginSlot(i);
+                if (page[slot] == null) {
+                    page[slot] = queue.poll();
+                    placed++;
+                }
+            }
+            if (placed == 0 && fresh) {
+                for (Placement placement : queue) {
+                    logger.warning("No slot available for plugin: " + placement.settingsId());
+                }
+                break;
+            }
+        }
+
+        return pages;
+    }
+
+    private static Placement[] pageAt(List<Placement[]> pages, int pageIndex, int size, Reserved reserved) {
+        while (pages.size() <= pageIndex) {
+            Placement[] page = new Placement[size];
+            int index = pages.size();
+            if (index > 0 && reserved.previousSlot() >= 0) {
+                page[reserved.previousSlot()] = RESERVED;
+            }
+            if (index < reserved.pagesWithNext() && reserved.nextSlot() >= 0) {
+                page[reserved.nextSlot()] = RESERVED;
+            }
+            pages.add(page);
+        }
+        return pages.get(pageIndex);
+    }
+
+    int generation() {
+        return generation;
+    }
+
+    long registryVersion() {
+        return registryVersion;
+    }
+
+    MenuLayout layout() {
+        return layout;
+    }
+
+    int pageCount() {
+        return pages.size();
+    }
+
+    Page page(int pageIndex) {
+        return pages.get(Math.max(0, Math.min(pageIndex, pages.size() - 1)));
+    }
+
+    record Placement(String settingsId, SettingsProvider provider, Position position, int priority) {
+    }
+
+    private record Reserved(int previousSlot, int nextSlot, int pagesWithNext) {
+    }
+
+    record Page(CompiledText title, ItemStack[] contents, SlotType[] slotTypes, SettingsProvider[] providers,
+                String[] settingsIds, List<DynamicSlot> dynamicSlots) {
+    }
+
+    record DynamicSlot(int slot, PlaceholderItem item) {
+    }
+}
@@ -0,0 +1,99 @@
+package me.mikey.settingslibrary.gui;
+
+import me.mikey.settingslibrary.config.ConfigManager.GUITemplate;
+import me.mikey.settingslibrary.gui.GUIManager.SlotType;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+
+public final class MenuLayout {
+
+    private final String templateId;
+    private final int size;
+    private final SlotType[] slotTypes;
+    private final ItemStack[] decoratorItems;
+    private final int[] pluginSlots;
+
+    private MenuLayout(String templateId, int size, SlotType[] slotTypes, ItemStack[] decoratorItems,
+                       int[] pluginSlots) {
+        this.templateId = templateId;
+        this.size = size;
+        this.slotTypes = slotTypes;
+        this.decoratorItems = decoratorItems;
+        this.pluginSlots = pluginSlots;
+    }
+
+    public static MenuLayout compile(GUITemplate template, Map<String, ItemStack> decorators) {
+        char[] pattern = template.compilePattern();
+        int size = pattern.length;
+
+        SlotType[] slotTypes = new SlotType[size];
+        ItemStack[] decoratorItems = new ItemStack[size];
+        int[] pluginSlots = new int[size];
+        int pluginSlotCount = 0;
+
+        for (int slot = 0; slot < size; slot++) {
+            char patternChar = pattern[slot];
+            slotTypes[slot] = slotTypeFor(patternChar);
+            decoratorItems[slot] = decoratorFor(patternChar, decorators);
+
+            if (patternChar == 'P') {
+                pluginSlots[pluginSlotCount++] = slot;
+            }
+        }
+
+        int[] trimmed = new int[pluginSlotCount];
+        System.arraycopy(pluginSlots, 0, trimmed, 0, pluginSlotCount);
+
+        return new MenuLayout(template.id(), size, slotTypes, decoratorItems, trimmed);
+    }
+
+    private static ItemStack decoratorFor(char patternChar, Map<String, ItemStack> decorators) {
+        return switch (patternChar) {
+            case 'B' -> decorators.get("border");
+            case 'F' -> decorators.get("filler");
+            case 'S' -> decorators.get("separator");
+            case 'A' -> decorators.get("accent");
+            default -> null;
+        };
+    }
+
+    private static SlotType slotTypeFor(char patternChar) {
+        return switch (patternChar) {
+            case 'B' -> SlotType.BORDER;
+            case 'F' -> SlotType.FILLER;
+            case 'S' -> SlotType.SEPARATOR;
+            case 'A' -> SlotType.ACCENT;
+            case 'P' -> SlotType.PLUGIN;
+            case 'N' -> SlotType.NAVIGATION;
+            case 'C' -> SlotType.CLOSE;
+            case 'I' -> SlotType.INFO;
+            case 'X' -> SlotType.EMPTY;
+            default -> SlotType.UNKNOWN;
+        };
+    }
+
+    public String getTemplateId() {
+        return templateId;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public SlotType getSlotType(int slot) {
+        return slotTypes[slot];
+    }
+
+    public ItemStack getDecoratorItem(int slot) {
+        return decoratorItems[slot];
+    }
+
+    public int getPluginSlotCount() {
+        return pluginSlots.length;
+    }
+
+    public int getPluginSlot(int index) {
+        return pluginSlots[index];
+    }
+}
@@ -0,0 +1,75 @@
+package me.mikey.settingslibrary.gui;
+
+import me.mikey.settingslibrary.config.ConfigManager.NavigationItem;
+import me.mikey.settingslibrary.manager.CompiledText;
+import me.mikey.settingslibrary.manager.PlaceholderManager;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+final class PlaceholderItem {
+
+    private final Material material;
+    private final CompiledText name;
+    private final List<CompiledText> lore;
+    private final ItemStack constantItem;
+
+    private PlaceholderItem(Material material, CompiledText name, List<CompiledText> lore) {
+        this.material = material;
+        this.name = name;
+        this.lore = lore;
+
+        boolean constant = name.isConstant();
+        for (CompiledText line : lore) {
+            constant &= line.isConstant();
+        }
+        this.constantItem = constant ? build(null) : null;
+    }
+
+    static PlaceholderItem compile(NavigationItem navItem, PlaceholderManager placeholders) {
+        List<CompiledText> lore = new ArrayList<>(navItem.lore().size());
+        for (String line : navItem.lore()) {
+            lore.add(placeholders.compile(line));
+        }
+        return new PlaceholderItem(navItem.material(), placeholders.compile(navItem.name()), List.copyOf(lore));
+    }
+
+    PlaceholderItem fold(Map<String, ?> locals) {
+        if (constantItem != null) {
+            return this;
+        }
+        List<CompiledText> folded = new ArrayList<>(lore.size());
+        for (CompiledText line : lore) {
+            folded.add(line.fold(locals));
+        }
+        return new PlaceholderItem(material, name.fold(locals), List.copyOf(folded));
+    }
+
+    boolean isConstant() {
+        return constantItem != null;
+    }
+
+    ItemStack render(Player player) {
+        return constantItem != null ? constantItem : build(player);
+    }
+
+    private ItemStack build(Player player) {
+        ItemStack item = new ItemStack(material);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            meta.setDisplayName(name.render(player));
+            List<String> lines = new ArrayList<>(lore.size());
+            for (CompiledText line : lore) {
+                lines.add(line.render(player));
+            }
+            meta.setLore(lines);
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+}
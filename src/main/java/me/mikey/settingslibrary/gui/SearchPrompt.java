@@ -0,0 +1,83 @@
+package me.mikey.settingslibrary.gui;
+
+import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.config.MessageCatalog;
+import me.mikey.settingslibrary.manager.SearchIndex;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerChatEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SearchPrompt implements Listener {
+
+    private static final String CANCEL_WORD = "cancel";
+    private static final long TIMEOUT_TICKS = 20L * 30;
+
+    private final SettingsLibraryPlugin plugin;
+    private final Map<UUID, Object> pending;
+
+    public SearchPrompt(SettingsLibraryPlugin plugin) {
+        this.plugin = plugin;
+        this.pending = new ConcurrentHashMap<>();
+    }
+
+    public void begin(Player player) {
+        UUID uuid = player.getUniqueId();
+        Object token = new Object();
+        pending.put(uuid, token);
+
+        player.closeInventory();
+        player.sendMessage(plugin.getConfigManager().getMessages().prefixed("search-prompt",
+                Map.of("cancel", CANCEL_WORD)));
+
+        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+            Player online = Bukkit.getPlayer(uuid);
+            if (pending.remove(uuid, token) && online != null) {
+                online.sendMessage(plugin.getConfigManager().getMessages().prefixed("search-expired"));
+            }
+        }, TIMEOUT_TICKS);
+    }
+
+    public boolean isPending(Player player) {
+        return pending.containsKey(player.getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerChat(AsyncPlayerChatEvent event) {
+        Player player = event.getPlayer();
+        if (pending.remove(player.getUniqueId()) == null) {
+            return;
+        }
+
+        event.setCancelled(true);
+        String query = event.getMessage().trim();
+
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            if (!player.isOnline()) {
+                return;
+            }
+
+            MessageCatalog messages = plugin.getConfigManager().getMessages();
+            if (query.equalsIgnoreCase(CANCEL_WORD)) {
+                player.sendMessage(messages.prefixed("search-cancelled"));
+            } else if (query.length() < SearchIndex.MIN_QUERY_LENGTH) {
+                player.sendMessage(messages.prefixed("search-too-short",
+                        Map.of("min", SearchIndex.MIN_QUERY_LENGTH)));
+            } else {
+                plugin.getGUIManager().openSearchResults(player, query);
+            }
+        });
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        pending.remove(event.getPlayer().getUniqueId());
+    }
+}
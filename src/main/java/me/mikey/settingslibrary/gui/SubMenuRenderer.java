@@ -0,0 +1,132 @@
+package me.mikey.settingslibrary.gui;
+
+import me.mikey.settingslibrary.api.SettingEntry;
+import me.mikey.settingslibrary.gui.GUIManager.SettingsMenuHolder;
+import me.mikey.settingslibrary.gui.GUIManager.SlotType;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class SubMenuRenderer {
+
+    private static final int ROW_SIZE = 9;
+    private static final int MAX_CONTENT_ROWS = 5;
+
+    private final ItemStack filler;
+    private final NavigationSlot back;
+    private final NavigationSlot previousPage;
+    private final NavigationSlot nextPage;
+
+    SubMenuRenderer(ItemStack filler, NavigationSlot back, NavigationSlot previousPage, NavigationSlot nextPage) {
+        this.filler = filler;
+        this.back = back;
+        this.previousPage = previousPage;
+        this.nextPage = nextPage;
+    }
+
+    static List<SettingEntry> visibleEntries(List<SettingEntry> settings, Player player) {
+        List<SettingEntry> visible = new ArrayList<>();
+        if (settings == null) {
+            return visible;
+        }
+        for (SettingEntry entry : settings) {
+            if (entry != null && entry.hasPermission(player)) {
+                visible.add(entry);
+            }
+        }
+        return visible;
+    }
+
+    static int sizeFor(List<SettingEntry> entries) {
+        int neededSlots = entries.size();
+        for (SettingEntry entry : entries) {
+            neededSlots = Math.max(neededSlots, entry.getSlot() + 1);
+        }
+        int contentRows = Math.max(1, Math.min(MAX_CONTENT_ROWS, (neededSlots + ROW_SIZE - 1) / ROW_SIZE));
+        return (contentRows + 1) * ROW_SIZE;
+    }
+
+    static List<SettingEntry[]> paginate(List<SettingEntry> entries, int pageSize) {
+        List<SettingEntry[]> pages = new ArrayList<>();
+        SettingEntry[] current = new SettingEntry[pageSize];
+        pages.add(current);
+
+        List<SettingEntry> flowing = new ArrayList<>(entries.size());
+        for (SettingEntry entry : entries) {
+            int slot = entry.getSlot();
+            if (slot >= 0 && slot < pageSize && current[slot] == null) {
+                current[slot] = entry;
+            } else {
+                flowing.add(entry);
+            }
+        }
+
+        int slot = 0;
+        for (SettingEntry entry : flowing) {
+            while (slot < pageSize && current[slot] != null) {
+                slot++;
+            }
+            if (slot == pageSize) {
+                current = new SettingEntry[pageSize];
+                pages.add(current);
+                slot = 0;
+            }
+            current[slot++] = entry;
+        }
+
+        return pages;
+    }
+
+    ItemStack[] render(SettingsMenuHolder holder, Player viewer) {
+        int size = holder.getSize();
+        int contentSize = size - ROW_SIZE;
+        int page = holder.getPage();
+        int pageCount = holder.getPageCount();
+
+        ItemStack[] contents = new ItemStack[size];
+        SlotType[] slotTypes = new SlotType[size];
+        holder.resetSlots(slotTypes);
+
+        SettingEntry[] entries = holder.getPageEntries(page);
+        for (int slot = 0; slot < contentSize; slot++) {
+            SettingEntry entry = entries[slot];
+            if (entry == null) {
+                slotTypes[slot] = SlotType.EMPTY;
+                continue;
+            }
+            contents[slot] = entry.getItem(viewer);
+            slotTypes[slot] = SlotType.SETTING;
+            holder.setSlotEntry(slot, entry);
+        }
+
+        for (int slot = contentSize; slot < size; slot++) {
+            contents[slot] = filler;
+            slotTypes[slot] = SlotType.FILLER;
+        }
+
+        place(contents, slotTypes, contentSize, back, SlotType.BACK);
+        if (page > 0) {
+            place(contents, slotTypes, contentSize, previousPage, SlotType.PREVIOUS_PAGE);
+        }
+        if (page < pageCount - 1) {
+            place(contents, slotTypes, contentSize, nextPage, SlotType.NEXT_PAGE);
+        }
+
+        return contents;
+    }
+
+    private void place(ItemStack[] contents, SlotType[] slotTypes, int rowStart, NavigationSlot navigation,
+                       SlotType type) {
+        if (navigation == null) {
+            return;
+        }
+        int slot = rowStart + navigation.column();
+        contents[slot] = navigation.item();
+        slotTypes[slot] = type;
+    }
+
+    record NavigationSlot(int column, ItemStack item) {
+    }
+}
@@ -0,0 +1,43 @@
+package me.mikey.settingslibrary.listeners;
+
+import me.mikey.settingslibrary.storage.PlayerDataStore;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+public class PlayerListener implements Listener {
+
+    private final PlayerDataStore playerDataStore;
+
+    public PlayerListener(PlayerDataStore playerDataStore) {
+        this.playerDataStore = playerDataStore;
+    }
+
+    public void trackOnlinePlayers() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            playerDataStore.markOnline(player.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            playerDataStore.prefetch(event.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        playerDataStore.markOnline(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        playerDataStore.markOffline(event.getPlayer().getUniqueId());
+    }
+}
@@ -55,6 +55,7 @@ public class PluginListener implements Listener {
         }
 
         int unregistered = plugin.getIntegrationManager().unregisterAll(disabledPlugin);
+        plugin.getPlaceholderManager().unregisterAll(disabledPlugin);
 
         if (unregistered > 0 && plugin.getConfigManager().isDebugMode()) {
             plugin.getLogger().info("Auto-unregistered " + unregistered +
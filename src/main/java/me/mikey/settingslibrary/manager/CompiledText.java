@@ -0,0 +1,126 @@
+package me.mikey.settingslibrary.manager;
+
+import me.mikey.settingslibrary.api.PlaceholderResolver.Scope;
+import me.mikey.settingslibrary.manager.PlaceholderManager.Binding;
+import me.mikey.settingslibrary.util.PlaceholderParser;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public final class CompiledText {
+
+    private final String[] literals;
+    private final String[] keys;
+    private final Binding[] bindings;
+
+    private CompiledText(String[] literals, String[] keys, Binding[] bindings) {
+        this.literals = literals;
+        this.keys = keys;
+        this.bindings = bindings;
+    }
+
+    public static CompiledText literal(String text) {
+        return new CompiledText(new String[]{text == null ? "" : text}, new String[0], new Binding[0]);
+    }
+
+    static CompiledText compile(String text, PlaceholderManager placeholders) {
+        if (text == null || text.indexOf('{') < 0) {
+            return literal(text);
+        }
+
+        Builder builder = new Builder();
+        PlaceholderParser.parse(text, new PlaceholderParser.Handler() {
+            @Override
+            public void literal(String literal) {
+                builder.literal(literal);
+            }
+
+            @Override
+            public void placeholder(String key) {
+                Binding binding = placeholders.getBinding(key.toLowerCase());
+                if (binding != null && binding.scope() == Scope.STATIC) {
+                    String value = binding.resolve(null);
+                    builder.literal(value != null ? value : "{" + key + "}");
+                } else {
+                    builder.slot(key, binding);
+                }
+            }
+        });
+        return builder.build();
+    }
+
+    public boolean isConstant() {
+        return keys.length == 0;
+    }
+
+    public CompiledText fold(Map<String, ?> locals) {
+        if (isConstant() || locals.isEmpty()) {
+            return this;
+        }
+
+        Builder builder = new Builder();
+        for (int i = 0; i < keys.length; i++) {
+            builder.literal(literals[i]);
+            Object value = bindings[i] == null ? locals.get(keys[i]) : null;
+            if (value != null) {
+                builder.literal(String.valueOf(value));
+            } else {
+                builder.slot(keys[i], bindings[i]);
+            }
+        }
+        builder.literal(literals[keys.length]);
+        return builder.build();
+    }
+
+    public String render(Player player) {
+        return render(player, Collections.emptyMap());
+    }
+
+    public String render(Player player, Map<String, ?> locals) {
+        if (isConstant()) {
+            return literals[0];
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            builder.append(literals[i]);
+            Object value = bindings[i] != null ? bindings[i].resolve(player) : locals.get(keys[i]);
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append('{').append(keys[i]).append('}');
+            }
+        }
+        return builder.append(literals[keys.length]).toString();
+    }
+
+    private static final class Builder {
+
+        private final List<String> literals = new ArrayList<>();
+        private final List<String> keys = new ArrayList<>();
+        private final List<Binding> bindings = new ArrayList<>();
+        private final StringBuilder current = new StringBuilder();
+
+        void literal(String text) {
+            current.append(text);
+        }
+
+        void slot(String key, Binding binding) {
+            literals.add(current.toString());
+            current.setLength(0);
+            keys.add(key);
+            bindings.add(binding);
+        }
+
+        CompiledText build() {
+            literals.add(current.toString());
+            return new CompiledText(
+                    literals.toArray(new String[0]),
+                    keys.toArray(new String[0]),
+                    bindings.toArray(new Binding[0]));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package me.mikey.settingslibrary.manager;
+
+import me.mikey.settingslibrary.api.SettingsProvider;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class DisplayItemCache {
+
+    private final Map<String, CachedItem> entries;
+
+    public DisplayItemCache() {
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    public ItemStack getIfValid(String settingsId) {
+        CachedItem cached = entries.get(settingsId);
+        if (cached != null && cached.isValid(System.nanoTime())) {
+            return cached.item();
+        }
+        return null;
+    }
+
+    public void put(String settingsId, SettingsProvider provider, ItemStack item) {
+        long ttl = provider.getDisplayItemTtl();
+        if (ttl == 0) {
+            entries.remove(settingsId);
+            return;
+        }
+
+        long expiresAt = ttl > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl) : 0L;
+        entries.put(settingsId, new CachedItem(item, expiresAt));
+    }
+
+    public void invalidate(String settingsId) {
+        entries.remove(settingsId);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private record CachedItem(ItemStack item, long expiresAt) {
+
+        boolean isValid(long now) {
+            return expiresAt == 0L || now - expiresAt < 0L;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package me.mikey.settingslibrary.manager;
+
+import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.api.PlaceholderResolver;
+import me.mikey.settingslibrary.api.PlaceholderResolver.Scope;
+import me.mikey.settingslibrary.gui.GUIManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class PlaceholderManager {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final SettingsLibraryPlugin plugin;
+    private final Map<String, Binding> bindings;
+    private final AtomicBoolean recompileScheduled;
+
+    public PlaceholderManager(SettingsLibraryPlugin plugin) {
+        this.plugin = plugin;
+        this.bindings = new ConcurrentHashMap<>();
+        this.recompileScheduled = new AtomicBoolean();
+
+        bindings.put("version", new Binding(plugin, player -> plugin.getDescription().getVersion(), Scope.STATIC));
+        bindings.put("player", new Binding(plugin, Player::getName, Scope.PLAYER));
+        bindings.put("world", new Binding(plugin, player -> player.getWorld().getName(), Scope.PLAYER));
+    }
+
+    public boolean register(Plugin owner, String key, PlaceholderResolver resolver) {
+        if (owner == null || key == null || key.isEmpty() || resolver == null) {
+            plugin.getLogger().warning("Attempted to register an invalid placeholder resolver");
+            return false;
+        }
+
+        key = key.toLowerCase();
+        Scope scope = resolver.getScope() != null ? resolver.getScope() : Scope.PLAYER;
+        if (bindings.putIfAbsent(key, new Binding(owner, resolver, scope)) != null) {
+            plugin.getLogger().warning("Placeholder '{" + key + "}' is already registered");
+            return false;
+        }
+
+        recompile();
+        return true;
+    }
+
+    public boolean unregister(String key) {
+        if (key == null || bindings.remove(key.toLowerCase()) == null) {
+            return false;
+        }
+        recompile();
+        return true;
+    }
+
+    public int unregisterAll(Plugin owner) {
+        int count = 0;
+        for (Map.Entry<String, Binding> entry : bindings.entrySet()) {
+            if (entry.getValue().owner == owner && bindings.remove(entry.getKey(), entry.getValue())) {
+                count++;
+            }
+        }
+        if (count > 0) {
+            recompile();
+        }
+        return count;
+    }
+
+    public boolean isRegistered(String key) {
+        return key != null && bindings.containsKey(key.toLowerCase());
+    }
+
+    public CompiledText compile(String text) {
+        return CompiledText.compile(text, this);
+    }
+
+    Binding getBinding(String key) {
+        return bindings.get(key);
+    }
+
+    private void recompile() {
+        if (plugin.getGUIManager() == null) {
+            return;
+        }
+        if (Bukkit.isPrimaryThread()) {
+            rebuild();
+        } else if (plugin.isEnabled() && recompileScheduled.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                recompileScheduled.set(false);
+                rebuild();
+            });
+        }
+    }
+
+    private void rebuild() {
+        GUIManager guiManager = plugin.getGUIManager();
+        guiManager.rebuildDecoratorCache();
+        guiManager.requestRefresh();
+    }
+
+    static final class Binding {
+
+        private final Plugin owner;
+        private final PlaceholderResolver resolver;
+        private final Scope scope;
+
+        private volatile String tickValue;
+        private volatile long tickResolvedAt;
+
+        Binding(Plugin owner, PlaceholderResolver resolver, Scope scope) {
+            this.owner = owner;
+            this.resolver = resolver;
+            this.scope = scope;
+        }
+
+        Scope scope() {
+            return scope;
+        }
+
+        String resolve(Player player) {
+            if (scope == Scope.PLAYER && player == null) {
+                return null;
+            }
+            if (scope != Scope.TICK) {
+                return resolver.resolve(player);
+            }
+
+            long now = System.nanoTime();
+            String value = tickValue;
+            if (value == null || now - tickResolvedAt >= TICK_NANOS) {
+                value = resolver.resolve(null);
+                tickValue = value;
+                tickResolvedAt = now;
+            }
+            return value;
+        }
+    }
+}
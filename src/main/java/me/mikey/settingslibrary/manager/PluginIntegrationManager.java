@@ -1,8 +1,13 @@
 package me.mikey.settingslibrary.manager;
 
 import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.api.SettingEntry;
 import me.mikey.settingslibrary.api.SettingsProvider;
 import me.mikey.settingslibrary.config.ConfigManager;
+import me.mikey.settingslibrary.manager.ProviderProfiler.Hook;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 
 import java.util.*;
@@ -13,59 +18,149 @@ public class PluginIntegrationManager {
     private final SettingsLibraryPlugin plugin;
     private final ConfigManager configManager;
 
-    private final Map<String, SettingsProvider> providers;
-    private final Map<String, Set<String>> pluginProviders;
+    private final ProviderRegistry registry;
+    private final Map<String, SettingsProvider> openSubscribers;
+    private final Map<String, SettingsProvider> closeSubscribers;
+    private final DisplayItemCache displayItemCache;
+    private final ProviderProfiler profiler;
+    private final SearchIndex searchIndex;
+    private final Set<String> staleSearchEntries;
 
     public PluginIntegrationManager(SettingsLibraryPlugin plugin) {
         this.plugin = plugin;
         this.configManager = plugin.getConfigManager();
-        this.providers = new ConcurrentHashMap<>();
-        this.pluginProviders = new ConcurrentHashMap<>();
+        this.registry = new ProviderRegistry(configManager::getPluginPriority);
+        this.openSubscribers = new ConcurrentHashMap<>();
+        this.closeSubscribers = new ConcurrentHashMap<>();
+        this.displayItemCache = new DisplayItemCache();
+        this.profiler = new ProviderProfiler(plugin);
+        this.searchIndex = new SearchIndex();
+        this.staleSearchEntries = ConcurrentHashMap.newKeySet();
     }
 
     public boolean registerProvider(SettingsProvider provider) {
+        Registration registration = validate(provider);
+        if (registration == null) {
+            return false;
+        }
+
+        String settingsId = registration.settingsId();
+        configManager.addPluginIfAbsent(settingsId);
+        if (!registry.add(settingsId, provider)) {
+            plugin.getLogger().warning("Provider with ID '" + settingsId + "' is already registered");
+            return false;
+        }
+        addProvider(registration);
+
+        plugin.getLogger().info("Registered settings provider: " + settingsId + " from " + provider.getPlugin().getName());
+
+        refreshMenus();
+        return true;
+    }
+
+    public int registerProviders(Collection<? extends SettingsProvider> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Registration> accepted = new LinkedHashMap<>();
+        for (SettingsProvider provider : batch) {
+            Registration registration = validate(provider);
+            if (registration == null) {
+                continue;
+            }
+            if (accepted.putIfAbsent(registration.settingsId(), registration) != null) {
+                plugin.getLogger().warning("Provider with ID '" + registration.settingsId()
+                        + "' appears more than once in the batch");
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return 0;
+        }
+
+        configManager.addPluginsIfAbsent(accepted.keySet());
+
+        Map<String, SettingsProvider> additions = new LinkedHashMap<>();
+        for (Registration registration : accepted.values()) {
+            additions.put(registration.settingsId(), registration.provider());
+        }
+        Set<String> added = registry.addAll(additions).keySet();
+        for (Registration registration : accepted.values()) {
+            if (added.contains(registration.settingsId())) {
+                addProvider(registration);
+            } else {
+                plugin.getLogger().warning("Provider with ID '" + registration.settingsId() + "' is already registered");
+            }
+        }
+
+        if (added.isEmpty()) {
+            return 0;
+        }
+
+        plugin.getLogger().info("Registered " + added.size() + " settings provider(s): "
+                + String.join(", ", added));
+
+        refreshMenus();
+        return added.size();
+    }
+
+    private Registration validate(SettingsProvider provider) {
         if (provider == null) {
             plugin.getLogger().warning("Attempted to register null provider");
-            return false;
+            return null;
         }
 
         String settingsId = provider.getSettingsId();
         if (settingsId == null || settingsId.isEmpty()) {
             plugin.getLogger().warning("Provider has null or empty settings ID");
-            return false;
+            return null;
         }
 
         settingsId = settingsId.toLowerCase().replace(" ", "-");
 
-        if (providers.containsKey(settingsId)) {
+        if (registry.snapshot().contains(settingsId)) {
             plugin.getLogger().warning("Provider with ID '" + settingsId + "' is already registered");
-            return false;
+            return null;
         }
 
         if (provider.getPlugin() == null) {
             plugin.getLogger().warning("Provider '" + settingsId + "' has no associated plugin");
-            return false;
+            return null;
         }
 
-        if (provider.getDisplayItem() == null) {
+        ItemStack displayItem = provider.getDisplayItem();
+        if (displayItem == null) {
             plugin.getLogger().warning("Provider '" + settingsId + "' has no display item");
-            return false;
+            return null;
         }
 
-        providers.put(settingsId, provider);
-
-        String pluginName = provider.getPlugin().getName();
-        pluginProviders.computeIfAbsent(pluginName, k -> new HashSet<>()).add(settingsId);
+        return new Registration(settingsId, provider, displayItem);
+    }
 
-        configManager.addPluginIfAbsent(settingsId);
+    private void addProvider(Registration registration) {
+        String settingsId = registration.settingsId();
+        SettingsProvider provider = registration.provider();
 
-        plugin.getLogger().info("Registered settings provider: " + settingsId + " from " + pluginName);
+        profiler.track(settingsId, provider);
+        displayItemCache.put(settingsId, provider, registration.displayItem());
 
-        if (plugin.getGUIManager() != null) {
-            plugin.getGUIManager().refreshAllMenus();
+        if (overridesHook(provider, "onMenuOpen")) {
+            openSubscribers.put(settingsId, provider);
+        }
+        if (overridesHook(provider, "onMenuClose")) {
+            closeSubscribers.put(settingsId, provider);
         }
 
-        return true;
+        indexSearch(settingsId, provider, registration.displayItem());
+    }
+
+    private void indexSearch(String settingsId, SettingsProvider provider, ItemStack displayItem) {
+        try {
+            searchIndex.index(settingsId, provider, displayItem, fetchSettings(provider));
+        } catch (RuntimeException e) {
+            plugin.getLogger().warning("Failed to index settings of provider '" + settingsId + "': " + e.getMessage());
+        }
     }
 
     public boolean unregisterProvider(SettingsProvider provider) {
@@ -80,27 +175,54 @@ public class PluginIntegrationManager {
     public boolean unregisterProvider(String settingsId) {
         settingsId = settingsId.toLowerCase().replace(" ", "-");
 
-        SettingsProvider removed = providers.remove(settingsId);
-        if (removed != null) {
-            String pluginName = removed.getPlugin().getName();
-            Set<String> pluginIds = pluginProviders.get(pluginName);
-            if (pluginIds != null) {
-                pluginIds.remove(settingsId);
-                if (pluginIds.isEmpty()) {
-                    pluginProviders.remove(pluginName);
-                }
-            }
-
+        if (removeProvider(settingsId)) {
             plugin.getLogger().info("Unregistered settings provider: " + settingsId);
+            refreshMenus();
+            return true;
+        }
+
+        return false;
+    }
+
+    public int unregisterProviders(Collection<? extends SettingsProvider> batch) {
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
 
-            if (plugin.getGUIManager() != null) {
-                plugin.getGUIManager().refreshAllMenus();
+        List<String> settingsIds = new ArrayList<>(batch.size());
+        for (SettingsProvider provider : batch) {
+            if (provider != null && provider.getSettingsId() != null) {
+                settingsIds.add(provider.getSettingsId().toLowerCase().replace(" ", "-"));
             }
+        }
+
+        Map<String, SettingsProvider> removed = registry.removeAll(settingsIds);
+        removed.forEach(this::discard);
+        int count = removed.size();
+
+        if (count > 0) {
+            plugin.getLogger().info("Unregistered " + count + " settings provider(s)");
+            refreshMenus();
+        }
+
+        return count;
+    }
 
+    private boolean overridesHook(SettingsProvider provider, String methodName) {
+        try {
+            return provider.getClass().getMethod(methodName, Player.class).getDeclaringClass() != SettingsProvider.class;
+        } catch (NoSuchMethodException | SecurityException e) {
             return true;
         }
+    }
 
-        return false;
+    private boolean removeProvider(String settingsId) {
+        SettingsProvider removed = registry.remove(settingsId);
+        if (removed == null) {
+            return false;
+        }
+        discard(settingsId, removed);
+        return true;
     }
 
     public int unregisterAll(Plugin ownerPlugin) {
@@ -109,71 +231,204 @@ public class PluginIntegrationManager {
         }
 
         String pluginName = ownerPlugin.getName();
-        Set<String> ids = pluginProviders.remove(pluginName);
+        Map<String, SettingsProvider> removed = registry.removeOwner(pluginName);
+        removed.forEach(this::discard);
+        int count = removed.size();
 
-        if (ids == null || ids.isEmpty()) {
-            return 0;
+        if (count > 0) {
+            plugin.getLogger().info("Unregistered " + count + " provider(s) from " + pluginName);
+            refreshMenus();
         }
 
-        int count = 0;
-        for (String id : ids) {
-            if (providers.remove(id) != null) {
-                count++;
+        return count;
+    }
+
+    private void discard(String settingsId, SettingsProvider provider) {
+        displayItemCache.invalidate(settingsId);
+        openSubscribers.remove(settingsId);
+        closeSubscribers.remove(settingsId);
+        searchIndex.remove(settingsId);
+        staleSearchEntries.remove(settingsId);
+        profiler.untrack(settingsId, provider);
+    }
+
+    public void notifyMenuOpen(Player player) {
+        for (Map.Entry<String, SettingsProvider> entry : openSubscribers.entrySet()) {
+            long start = profiler.start();
+            try {
+                entry.getValue().onMenuOpen(player);
+            } finally {
+                profiler.record(entry.getKey(), Hook.MENU_OPEN, start);
             }
         }
+    }
 
-        if (count > 0) {
-            plugin.getLogger().info("Unregistered " + count + " provider(s) from " + pluginName);
+    public void notifyMenuClose(Player player) {
+        for (Map.Entry<String, SettingsProvider> entry : closeSubscribers.entrySet()) {
+            long start = profiler.start();
+            try {
+                entry.getValue().onMenuClose(player);
+            } finally {
+                profiler.record(entry.getKey(), Hook.MENU_CLOSE, start);
+            }
+        }
+    }
+
+    public void dispatchClick(SettingsProvider provider, Player player, ClickType clickType) {
+        long start = profiler.start();
+        try {
+            provider.onClick(player, clickType);
+        } finally {
+            profiler.record(provider, Hook.CLICK, start);
+        }
+    }
+
+    public void dispatchSettingClick(SettingsProvider provider, SettingEntry entry, Player player,
+                                     ClickType clickType) {
+        long start = profiler.start();
+        try {
+            entry.handleClick(player, clickType);
+        } finally {
+            profiler.record(provider, Hook.CLICK, start);
+        }
+    }
 
-            if (plugin.getGUIManager() != null) {
-                plugin.getGUIManager().refreshAllMenus();
+    public List<SettingEntry> fetchSettings(SettingsProvider provider) {
+        long start = profiler.start();
+        try {
+            return provider.getSettings();
+        } finally {
+            profiler.record(provider, Hook.SETTINGS, start);
+        }
+    }
+
+    private void refreshMenus() {
+        if (plugin.getGUIManager() != null) {
+            plugin.getGUIManager().requestRefresh();
+        }
+    }
+
+    public ItemStack getDisplayItem(String settingsId, SettingsProvider provider) {
+        ItemStack cached = displayItemCache.getIfValid(settingsId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = profiler.start();
+        ItemStack item;
+        try {
+            item = provider.getDisplayItem();
+        } finally {
+            profiler.record(settingsId, Hook.DISPLAY_ITEM, start);
+        }
+
+        displayItemCache.put(settingsId, provider, item);
+        staleSearchEntries.add(settingsId);
+        return item;
+    }
+
+    public ProviderProfiler getProfiler() {
+        return profiler;
+    }
+
+    public SearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    public List<SearchIndex.Document> search(String query, int limit) {
+        reindexStale();
+        return searchIndex.search(query, limit);
+    }
+
+    private void reindexStale() {
+        if (staleSearchEntries.isEmpty()) {
+            return;
+        }
+
+        List<String> stale = new ArrayList<>(staleSearchEntries);
+        staleSearchEntries.removeAll(stale);
+        for (String settingsId : stale) {
+            SettingsProvider provider = registry.snapshot().get(settingsId);
+            if (provider == null) {
+                continue;
+            }
+            ItemStack displayItem = displayItemCache.getIfValid(settingsId);
+            indexSearch(settingsId, provider, displayItem != null ? displayItem : getDisplayItem(settingsId, provider));
+            if (registry.snapshot().get(settingsId) != provider) {
+                searchIndex.remove(settingsId);
             }
         }
+    }
 
-        return count;
+    public boolean invalidateDisplayItem(String settingsId) {
+        settingsId = settingsId.toLowerCase().replace(" ", "-");
+        if (!registry.snapshot().contains(settingsId)) {
+            return false;
+        }
+
+        displayItemCache.invalidate(settingsId);
+        staleSearchEntries.add(settingsId);
+        if (plugin.getGUIManager() != null) {
+            plugin.getGUIManager().requestRefresh();
+        }
+        return true;
+    }
+
+    public ProviderRegistry getRegistry() {
+        return registry;
     }
 
     public Optional<SettingsProvider> getProvider(String settingsId) {
         settingsId = settingsId.toLowerCase().replace(" ", "-");
-        return Optional.ofNullable(providers.get(settingsId));
+        return Optional.ofNullable(registry.snapshot().get(settingsId));
     }
 
     public Collection<SettingsProvider> getProviders() {
-        return Collections.unmodifiableCollection(providers.values());
+        return registry.snapshot().byId().values();
+    }
+
+    public Map<String, SettingsProvider> getProviderMap() {
+        return registry.snapshot().byId();
     }
 
     public Set<String> getProviderIds() {
-        return Collections.unmodifiableSet(providers.keySet());
+        return registry.snapshot().byId().keySet();
+    }
+
+    public List<String> completeProviderIds(String prefix) {
+        return registry.snapshot().idsWithPrefix(prefix.toLowerCase().replace(" ", "-"));
     }
 
     public int getProviderCount() {
-        return providers.size();
+        return registry.snapshot().size();
     }
 
     public boolean isRegistered(String settingsId) {
         settingsId = settingsId.toLowerCase().replace(" ", "-");
-        return providers.containsKey(settingsId);
+        return registry.snapshot().contains(settingsId);
     }
 
     public List<SettingsProvider> getProvidersSortedByPriority() {
-        List<SettingsProvider> sorted = new ArrayList<>(providers.values());
-        sorted.sort(Comparator.comparingInt(p -> {
-            int configPriority = configManager.getPluginPriority(p.getSettingsId());
-            return Math.min(p.getPriority(), configPriority);
-        }));
-        return sorted;
+        ProviderRegistry.Entry[] sorted = registry.snapshot().sorted();
+        List<SettingsProvider> providers = new ArrayList<>(sorted.length);
+        for (ProviderRegistry.Entry entry : sorted) {
+            providers.add(entry.provider());
+        }
+        return providers;
     }
 
     public Map<String, Integer> getPluginProviderCounts() {
         Map<String, Integer> counts = new HashMap<>();
-        for (Map.Entry<String, Set<String>> entry : pluginProviders.entrySet()) {
+        for (Map.Entry<String, Set<String>> entry : registry.snapshot().byOwner().entrySet()) {
             counts.put(entry.getKey(), entry.getValue().size());
         }
         return counts;
     }
 
     public Set<String> getProviderIdsForPlugin(String pluginName) {
-        Set<String> ids = pluginProviders.get(pluginName);
-        return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+        return registry.snapshot().idsForOwner(pluginName);
+    }
+
+    private record Registration(String settingsId, SettingsProvider provider, ItemStack displayItem) {
     }
 }
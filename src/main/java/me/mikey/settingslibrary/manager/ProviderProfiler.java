@@ -0,0 +1,262 @@
+package me.mikey.settingslibrary.manager;
+
+import me.mikey.settingslibrary.SettingsLibraryPlugin;
+import me.mikey.settingslibrary.api.SettingsProvider;
+import me.mikey.settingslibrary.config.ConfigManager;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class ProviderProfiler {
+
+    private static final long SLOW_WARNING_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final SettingsLibraryPlugin plugin;
+    private final ConfigManager configManager;
+
+    private final Map<String, ProviderStats> statsById;
+    private final Map<SettingsProvider, ProviderStats> statsByProvider;
+
+    public ProviderProfiler(SettingsLibraryPlugin plugin) {
+        this.plugin = plugin;
+        this.configManager = plugin.getConfigManager();
+        this.statsById = new ConcurrentHashMap<>();
+        this.statsByProvider = new ConcurrentHashMap<>();
+    }
+
+    public void track(String settingsId, SettingsProvider provider) {
+        ProviderStats stats = new ProviderStats(settingsId);
+        statsById.put(settingsId, stats);
+        statsByProvider.put(provider, stats);
+    }
+
+    public void untrack(String settingsId, SettingsProvider provider) {
+        statsById.remove(settingsId);
+        statsByProvider.remove(provider);
+    }
+
+    public long start() {
+        return configManager.isProfilingEnabled() ? System.nanoTime() : 0L;
+    }
+
+    public void record(SettingsProvider provider, Hook hook, long start) {
+        if (start == 0L || provider == null) {
+            return;
+        }
+        ProviderStats stats = statsByProvider.get(provider);
+        if (stats != null) {
+            record(stats, hook, System.nanoTime() - start);
+        }
+    }
+
+    public void record(String settingsId, Hook hook, long start) {
+        if (start == 0L) {
+            return;
+        }
+        ProviderStats stats = statsById.get(settingsId);
+        if (stats != null) {
+            record(stats, hook, System.nanoTime() - start);
+        }
+    }
+
+    private void record(ProviderStats stats, Hook hook, long elapsed) {
+        stats.histogram(hook).record(elapsed);
+
+        long threshold = configManager.getSlowCallThresholdMs();
+        if (threshold <= 0 || elapsed <= TimeUnit.MILLISECONDS.toNanos(threshold)) {
+            return;
+        }
+
+        long suppressed = stats.claimSlowWarning(hook, System.nanoTime());
+        if (suppressed >= 0) {
+            plugin.getLogger().warning("Slow settings provider '" + stats.settingsId() + "': "
+                    + hook.getLabel() + " took " + formatMillis(elapsed) + "ms (budget " + threshold + "ms)"
+                    + (suppressed > 0 ? ", " + suppressed + " more slow call(s) since the last warning" : ""));
+        }
+    }
+
+    public ProviderStats getStats(String settingsId) {
+        return statsById.get(settingsId.toLowerCase().replace(" ", "-"));
+    }
+
+    public Map<String, ProviderStats> getAllStats() {
+        return Collections.unmodifiableMap(statsById);
+    }
+
+    public void reset() {
+        for (ProviderStats stats : statsById.values()) {
+            stats.reset();
+        }
+    }
+
+    public static String formatMillis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    public enum Hook {
+        DISPLAY_ITEM("getDisplayItem"),
+        CLICK("onClick"),
+        MENU_OPEN("onMenuOpen"),
+        MENU_CLOSE("onMenuClose"),
+        SETTINGS("getSettings");
+
+        private final String label;
+
+        Hook(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    public static class ProviderStats {
+
+        private final String settingsId;
+        private final Histogram[] histograms;
+        private final AtomicLongArray lastSlowWarning;
+        private final AtomicLongArray suppressedSlowWarnings;
+
+        ProviderStats(String settingsId) {
+            this.settingsId = settingsId;
+            this.lastSlowWarning = new AtomicLongArray(Hook.values().length);
+            this.suppressedSlowWarnings = new AtomicLongArray(Hook.values().length);
+            this.histograms = new Histogram[Hook.values().length];
+            for (int i = 0; i < histograms.length; i++) {
+                histograms[i] = new Histogram();
+            }
+        }
+
+        public String settingsId() {
+            return settingsId;
+        }
+
+        public Histogram histogram(Hook hook) {
+            return histograms[hook.ordinal()];
+        }
+
+        public long getTotalCount() {
+            long total = 0;
+            for (Histogram histogram : histograms) {
+                total += histogram.getCount();
+            }
+            return total;
+        }
+
+        public long getWorstPercentile(double percentile) {
+            long worst = 0;
+            for (Histogram histogram : histograms) {
+                worst = Math.max(worst, histogram.getPercentile(percentile));
+            }
+            return worst;
+        }
+
+        public long getWorstMax() {
+            long max = 0;
+            for (Histogram histogram : histograms) {
+                max = Math.max(max, histogram.getMax());
+            }
+            return max;
+        }
+
+        long claimSlowWarning(Hook hook, long now) {
+            int index = hook.ordinal();
+            long last = lastSlowWarning.get(index);
+            if ((last != 0 && now - last < SLOW_WARNING_INTERVAL_NANOS)
+                    || !lastSlowWarning.compareAndSet(index, last, now)) {
+                suppressedSlowWarnings.incrementAndGet(index);
+                return -1;
+            }
+            return suppressedSlowWarnings.getAndSet(index, 0);
+        }
+
+        void reset() {
+            for (Histogram histogram : histograms) {
+                histogram.reset();
+            }
+        }
+    }
+
+    public static class Histogram {
+
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+        private final AtomicLongArray buckets;
+        private final AtomicLong count;
+        private final AtomicLong max;
+
+        Histogram() {
+            this.buckets = new AtomicLongArray(BUCKETS);
+            this.count = new AtomicLong();
+            this.max = new AtomicLong();
+        }
+
+        void record(long value) {
+            if (value < 0) {
+                value = 0;
+            }
+            buckets.incrementAndGet(indexOf(value));
+            count.incrementAndGet();
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        public long getCount() {
+            return count.get();
+        }
+
+        public long getMax() {
+            return max.get();
+        }
+
+        public long getPercentile(double percentile) {
+            long total = count.get();
+            if (total == 0) {
+                return 0;
+            }
+
+            long target = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return Math.min(upperBoundOf(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.set(0);
+            max.set(0);
+        }
+
+        private static int indexOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int shift = exponent - SUB_BUCKET_BITS;
+            int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+            return (shift + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long upperBoundOf(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int shift = index / SUB_BUCKETS - 1;
+            long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+            return lower + (1L << shift) - 1;
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package me.mikey.settingslibrary.manager;
+
+import me.mikey.settingslibrary.api.SettingsProvider;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+
+public class ProviderRegistry {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::priority)
+            .thenComparing(Entry::settingsId);
+
+    private final AtomicReference<Snapshot> current;
+    private final ToIntFunction<String> configuredPriority;
+
+    public ProviderRegistry(ToIntFunction<String> configuredPriority) {
+        this.configuredPriority = configuredPriority;
+        this.current = new AtomicReference<>(new Snapshot(0L, Collections.emptyMap(), Collections.emptyMap(),
+                new Entry[0], new String[0]));
+    }
+
+    public Snapshot snapshot() {
+        return current.get();
+    }
+
+    public Map<String, SettingsProvider> addAll(Map<String, SettingsProvider> additions) {
+        while (true) {
+            Snapshot snapshot = current.get();
+            Map<String, SettingsProvider> byId = new HashMap<>(snapshot.byId);
+            Map<String, SettingsProvider> accepted = new LinkedHashMap<>();
+            for (Map.Entry<String, SettingsProvider> entry : additions.entrySet()) {
+                if (byId.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                    accepted.put(entry.getKey(), entry.getValue());
+                }
+            }
+            if (accepted.isEmpty()) {
+                return accepted;
+            }
+
+            Entry[] added = new Entry[accepted.size()];
+            int index = 0;
+            for (Map.Entry<String, SettingsProvider> entry : accepted.entrySet()) {
+                added[index++] = entryFor(entry.getKey(), entry.getValue());
+            }
+            Arrays.sort(added, ORDER);
+
+            String[] addedIds = accepted.keySet().toArray(new String[0]);
+            Arrays.sort(addedIds);
+
+            Snapshot next = new Snapshot(snapshot.version + 1, Collections.unmodifiableMap(byId),
+                    updateOwners(snapshot.byOwner, accepted, true),
+                    merge(snapshot.sorted, added, ORDER), merge(snapshot.ids, addedIds, Comparator.naturalOrder()));
+            if (current.compareAndSet(snapshot, next)) {
+                return accepted;
+            }
+        }
+    }
+
+    public boolean add(String settingsId, SettingsProvider provider) {
+        return !addAll(Map.of(settingsId, provider)).isEmpty();
+    }
+
+    public Map<String, SettingsProvider> removeAll(Collection<String> settingsIds) {
+        while (true) {
+            Snapshot snapshot = current.get();
+            Map<String, SettingsProvider> byId = new HashMap<>(snapshot.byId);
+            Map<String, SettingsProvider> removed = new LinkedHashMap<>();
+            for (String settingsId : settingsIds) {
+                SettingsProvider provider = byId.remove(settingsId);
+                if (provider != null) {
+                    removed.put(settingsId, provider);
+                }
+            }
+            if (removed.isEmpty()) {
+                return removed;
+            }
+
+            Entry[] sorted = new Entry[byId.size()];
+            int index = 0;
+            for (Entry entry : snapshot.sorted) {
+                if (!removed.containsKey(entry.settingsId())) {
+                    sorted[index++] = entry;
+                }
+            }
+
+            String[] ids = new String[byId.size()];
+            index = 0;
+            for (String settingsId : snapshot.ids) {
+                if (!removed.containsKey(settingsId)) {
+                    ids[index++] = settingsId;
+                }
+            }
+
+            Snapshot next = new Snapshot(snapshot.version + 1, Collections.unmodifiableMap(byId),
+                    updateOwners(snapshot.byOwner, removed, false), sorted, ids);
+            if (current.compareAndSet(snapshot, next)) {
+                return removed;
+            }
+        }
+    }
+
+    public SettingsProvider remove(String settingsId) {
+        return removeAll(List.of(settingsId)).get(settingsId);
+    }
+
+    public Map<String, SettingsProvider> removeOwner(String pluginName) {
+        Set<String> ids = current.get().idsForOwner(pluginName);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return removeAll(ids);
+    }
+
+    public void resort() {
+        while (true) {
+            Snapshot snapshot = current.get();
+            if (current.compareAndSet(snapshot, build(snapshot.version + 1, snapshot.byId))) {
+                return;
+            }
+        }
+    }
+
+    private Entry entryFor(String settingsId, SettingsProvider provider) {
+        int priority = Math.min(provider.getPriority(), configuredPriority.applyAsInt(settingsId));
+        return new Entry(settingsId, provider, priority);
+    }
+
+    private Snapshot build(long version, Map<String, SettingsProvider> byId) {
+        Entry[] sorted = new Entry[byId.size()];
+        int index = 0;
+        for (Map.Entry<String, SettingsProvider> entry : byId.entrySet()) {
+            sorted[index++] = entryFor(entry.getKey(), entry.getValue());
+        }
+        Arrays.sort(sorted, ORDER);
+
+        String[] ids = byId.keySet().toArray(new String[0]);
+        Arrays.sort(ids);
+
+        return new Snapshot(version, Collections.unmodifiableMap(new HashMap<>(byId)),
+                updateOwners(Collections.emptyMap(), byId, true), sorted, ids);
+    }
+
+    private static Map<String, Set<String>> updateOwners(Map<String, Set<String>> byOwner,
+                                                         Map<String, SettingsProvider> changes, boolean add) {
+        Map<String, Set<String>> owners = new HashMap<>(byOwner);
+        Map<String, Set<String>> touched = new HashMap<>();
+        for (Map.Entry<String, SettingsProvider> entry : changes.entrySet()) {
+            String owner = entry.getValue().getPlugin().getName();
+            Set<String> ids = touched.computeIfAbsent(owner, k -> {
+                Set<String> existing = owners.get(k);
+                return existing != null ? new HashSet<>(existing) : new HashSet<>();
+            });
+            if (add) {
+                ids.add(entry.getKey());
+            } else {
+                ids.remove(entry.getKey());
+            }
+        }
+
+        for (Map.Entry<String, Set<String>> entry : touched.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                owners.remove(entry.getKey());
+            } else {
+                owners.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+            }
+        }
+        return Collections.unmodifiableMap(owners);
+    }
+
+    private static <T> T[] merge(T[] existing, T[] added, Comparator<? super T> order) {
+        T[] merged = Arrays.copyOf(existing, existing.length + added.length);
+        int left = existing.length - 1;
+        int right = added.length - 1;
+        int target = merged.length - 1;
+        while (right >= 0) {
+            if (left >= 0 && order.compare(existing[left], added[right]) > 0) {
+                merged[target--] = existing[left--];
+            } else {
+                merged[target--] = added[right--];
+            }
+        }
+        return merged;
+    }
+
+    public record Entry(String settingsId, SettingsProvider provider, int priority) {
+    }
+
+    public static final class Snapshot {
+
+        private final long version;
+        private final Map<String, SettingsProvider> byId;
+        private final Map<String, Set<String>> byOwner;
+        private final Entry[] sorted;
+        private final String[] ids;
+
+        private Snapshot(long version, Map<String, SettingsProvider> byId, Map<String, Set<String>> byOwner,
+                         Entry[] sorted, String[] ids) {
+            this.version = version;
+            this.byId = byId;
+            this.byOwner = byOwner;
+            this.sorted = sorted;
+            this.ids = ids;
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public SettingsProvider get(String settingsId) {
+            return byId.get(settingsId);
+        }
+
+        public boolean contains(String settingsId) {
+            return byId.containsKey(settingsId);
+        }
+
+        public int size() {
+            return byId.size();
+        }
+
+        public Map<String, SettingsProvider> byId() {
+            return byId;
+        }
+
+        public Map<String, Set<String>> byOwner() {
+            return byOwner;
+        }
+
+        public Set<String> idsForOwner(String pluginName) {
+            return byOwner.getOrDefault(pluginName, Collections.emptySet());
+        }
+
+        // Shared with every reader; must not be modified.
+        public Entry[] sorted() {
+            return sorted;
+        }
+
+        public List<String> idsWithPrefix(String prefix) {
+            int from = lowerBound(prefix);
+            int to = lowerBound(prefix + Character.MAX_VALUE);
+            return List.of(Arrays.copyOfRange(ids, from, to));
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package me.mikey.settingslibrary.manager;
+
+import me.mikey.settingslibrary.api.SettingEntry;
+import me.mikey.settingslibrary.api.SettingsProvider;
+import org.bukkit.ChatColor;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SearchIndex {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private static final int MAX_GRAM = 3;
+
+    private final Map<String, Set<Document>> postings;
+    private final Map<String, List<Document>> documents;
+
+    public SearchIndex() {
+        this.postings = new ConcurrentHashMap<>();
+        this.documents = new ConcurrentHashMap<>();
+    }
+
+    public void index(String settingsId, SettingsProvider provider, ItemStack displayItem, List<SettingEntry> settings) {
+        List<Document> indexed = new ArrayList<>();
+
+        StringBuilder text = new StringBuilder(settingsId).append('\n').append(provider.getDisplayName());
+        appendItemText(text, displayItem, true);
+        indexed.add(new Document(settingsId, provider, null, normalize(text.toString())));
+
+        if (settings != null) {
+            for (SettingEntry entry : settings) {
+                if (entry == null) {
+                    continue;
+                }
+                StringBuilder entryText = new StringBuilder(entry.getId());
+                if (!entry.isViewerDependent()) {
+                    appendItemText(entryText, entry.getItem(), false);
+                }
+                indexed.add(new Document(settingsId, provider, entry, normalize(entryText.toString())));
+            }
+        }
+
+        remove(settingsId);
+        documents.put(settingsId, indexed);
+        for (Document document : indexed) {
+            for (String gram : grams(document.text())) {
+                postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(document);
+            }
+        }
+    }
+
+    public void remove(String settingsId) {
+        List<Document> removed = documents.remove(settingsId);
+        if (removed == null) {
+            return;
+        }
+        for (Document document : removed) {
+            for (String gram : grams(document.text())) {
+                postings.computeIfPresent(gram, (k, set) -> {
+                    set.remove(document);
+                    return set.isEmpty() ? null : set;
+                });
+            }
+        }
+    }
+
+    public List<Document> search(String query, int limit) {
+        String[] terms = normalize(query).split("\\s+");
+
+        Set<Document> candidates = null;
+        for (String term : terms) {
+            if (term.length() < MIN_QUERY_LENGTH) {
+                continue;
+            }
+            Set<Document> matches = candidatesFor(term);
+            if (candidates == null) {
+                candidates = new HashSet<>(matches);
+            } else {
+                candidates.retainAll(matches);
+            }
+            if (candidates.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+        if (candidates == null) {
+            return Collections.emptyList();
+        }
+
+        List<Document> results = new ArrayList<>();
+        for (Document document : candidates) {
+            if (containsAll(document.text(), terms)) {
+                results.add(document);
+            }
+        }
+        results.sort(Comparator.comparing((Document document) -> document.entry() != null)
+                .thenComparing(Document::settingsId)
+                .thenComparing(document -> document.entry() != null ? document.entry().getId() : ""));
+        return results.size() > limit ? results.subList(0, limit) : results;
+    }
+
+    public int size() {
+        int size = 0;
+        for (List<Document> indexed : documents.values()) {
+            size += indexed.size();
+        }
+        return size;
+    }
+
+    private Set<Document> candidatesFor(String term) {
+        int gramLength = Math.min(term.length(), MAX_GRAM);
+        Set<Document> smallest = null;
+        for (int i = 0; i + gramLength <= term.length(); i++) {
+            Set<Document> posting = postings.get(term.substring(i, i + gramLength));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest != null ? smallest : Collections.emptySet();
+    }
+
+    private static boolean containsAll(String text, String[] terms) {
+        for (String term : terms) {
+            if (term.length() >= MIN_QUERY_LENGTH && !text.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        int length = text.length();
+        for (int n = MIN_QUERY_LENGTH; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= length; i++) {
+                String gram = text.substring(i, i + n);
+                if (gram.indexOf(' ') < 0 && gram.indexOf('\n') < 0) {
+                    grams.add(gram);
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static void appendItemText(StringBuilder text, ItemStack item, boolean includeLore) {
+        if (item == null || !item.hasItemMeta()) {
+            return;
+        }
+        ItemMeta meta = item.getItemMeta();
+        if (meta.hasDisplayName()) {
+            text.append('\n').append(meta.getDisplayName());
+        }
+        if (includeLore && meta.hasLore()) {
+            for (String line : meta.getLore()) {
+                text.append('\n').append(line);
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        String stripped = ChatColor.stripColor(text);
+        return (stripped != null ? stripped : "").toLowerCase(Locale.ROOT).replace('-', ' ').replace('_', ' ');
+    }
+
+    public record Document(String settingsId, SettingsProvider provider, SettingEntry entry, String text) {
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+}
@@ -1,31 +1,44 @@
 package me.mikey.settingslibrary.manager;
 
 import net.md_5.bungee.api.ChatColor;
-import java.util.ArrayList;
+
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class TextColorManager {
 
+    private static final int CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_LENGTH = 256;
+    private static final String LEGACY_CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
     private final List<Function<String, String>> formatters;
-    private static final Pattern HEX_PATTERN = Pattern.compile("&#([A-Fa-f0-9]{6})");
+    private final Map<String, String> cache;
+    private final ThreadLocal<StringBuilder> builders;
 
     public TextColorManager() {
-        this.formatters = new ArrayList<>();
-
-        // Register default formatters
-        // 1. Hex Color Formatter
-        registerFormatter(this::formatHex);
-
-        // 2. Legacy Color Formatter (Standard Bukkit/Spigot)
-        registerFormatter(text -> ChatColor.translateAlternateColorCodes('&', text));
+        this.formatters = new CopyOnWriteArrayList<>();
+        this.cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        this.builders = ThreadLocal.withInitial(() -> new StringBuilder(64));
     }
 
     public void registerFormatter(Function<String, String> formatter) {
         if (formatter != null) {
             this.formatters.add(formatter);
+            clearCache();
+        }
+    }
+
+    public void clearCache() {
+        synchronized (cache) {
+            cache.clear();
         }
     }
 
@@ -33,21 +46,79 @@ public class TextColorManager {
         if (text == null)
             return "";
 
-        String result = text;
+        boolean cacheable = text.length() <= MAX_CACHED_LENGTH;
+        if (cacheable) {
+            synchronized (cache) {
+                String cached = cache.get(text);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        String result = translate(text);
         for (Function<String, String> formatter : formatters) {
             result = formatter.apply(result);
         }
+
+        if (cacheable) {
+            synchronized (cache) {
+                cache.put(text, result);
+            }
+        }
         return result;
     }
 
-    private String formatHex(String text) {
-        Matcher matcher = HEX_PATTERN.matcher(text);
-        StringBuffer buffer = new StringBuffer();
+    private String translate(String text) {
+        int first = text.indexOf('&');
+        if (first < 0 || first == text.length() - 1) {
+            return text;
+        }
+
+        StringBuilder builder = builders.get();
+        builder.setLength(0);
+        builder.append(text, 0, first);
+
+        int length = text.length();
+        for (int i = first; i < length; i++) {
+            char c = text.charAt(i);
+            if (c != '&' || i + 1 >= length) {
+                builder.append(c);
+                continue;
+            }
+
+            char next = text.charAt(i + 1);
+            if (next == '#' && isHex(text, i + 2)) {
+                builder.append(ChatColor.COLOR_CHAR).append('x');
+                for (int j = i + 2; j < i + 8; j++) {
+                    builder.append(ChatColor.COLOR_CHAR).append(text.charAt(j));
+                }
+                i += 7;
+            } else if (LEGACY_CODES.indexOf(next) >= 0) {
+                builder.append(ChatColor.COLOR_CHAR).append(Character.toLowerCase(next));
+                i++;
+            } else {
+                builder.append(c);
+            }
+        }
 
-        while (matcher.find()) {
-            matcher.appendReplacement(buffer, ChatColor.of("#" + matcher.group(1)).toString());
+        String result = builder.toString();
+        if (builder.capacity() > MAX_CACHED_LENGTH * 4) {
+            builders.remove();
         }
+        return result;
+    }
 
-        return matcher.appendTail(buffer).toString();
+    private static boolean isHex(String text, int start) {
+        if (start + 6 > text.length()) {
+            return false;
+        }
+        for (int i = start; i < start + 6; i++) {
+            char c = text.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                return false;
+            }
+        }
+        return true;
     }
 }
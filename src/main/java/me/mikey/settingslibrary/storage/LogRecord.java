@@ -0,0 +1,69 @@
+package me.mikey.settingslibrary.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+record LogRecord(UUID playerId, String key, String value) {
+
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    static final int MAX_PAYLOAD_SIZE = 1 << 20;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 0;
+
+    boolean isRemoval() {
+        return value == null;
+    }
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0);
+            out.writeInt(0);
+            out.writeLong(playerId.getMostSignificantBits());
+            out.writeLong(playerId.getLeastSignificantBits());
+            out.writeByte(value != null ? OP_PUT : OP_REMOVE);
+            out.writeUTF(key);
+            if (value != null) {
+                out.writeUTF(value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        byte[] frame = bytes.toByteArray();
+        int length = frame.length - HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(frame, HEADER_SIZE, length);
+
+        ByteBuffer.wrap(frame).putInt(length).putInt((int) crc.getValue());
+        return frame;
+    }
+
+    static UUID playerIdOf(byte[] frame) {
+        ByteBuffer buffer = ByteBuffer.wrap(frame, HEADER_SIZE, Long.BYTES * 2);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    static boolean verify(byte[] payload, int checksum) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue() == checksum;
+    }
+
+    static LogRecord decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            UUID playerId = new UUID(in.readLong(), in.readLong());
+            byte op = in.readByte();
+            String key = in.readUTF();
+            String value = op == OP_PUT ? in.readUTF() : null;
+            return new LogRecord(playerId, key, value);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package me.mikey.settingslibrary.storage;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+import java.util.logging.Logger;
+
+final class LogShard {
+
+    private final Path path;
+    private final Logger logger;
+
+    private FileChannel channel;
+    private long recordCount;
+    private long baselineCount;
+
+    LogShard(Path path, Logger logger) {
+        this.path = path;
+        this.logger = logger;
+    }
+
+    void open(ObjLongConsumer<LogRecord> replay) throws IOException {
+        long validLength = 0;
+        if (Files.exists(path)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ))))) {
+                while (true) {
+                    int length;
+                    int checksum;
+                    try {
+                        length = in.readInt();
+                        checksum = in.readInt();
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    if (length <= 0 || length > LogRecord.MAX_PAYLOAD_SIZE) {
+                        break;
+                    }
+
+                    byte[] payload = new byte[length];
+                    try {
+                        in.readFully(payload);
+                    } catch (EOFException e) {
+                        break;
+                    }
+                    if (!LogRecord.verify(payload, checksum)) {
+                        break;
+                    }
+
+                    replay.accept(LogRecord.decode(payload), validLength);
+                    validLength += LogRecord.HEADER_SIZE + length;
+                    recordCount++;
+                }
+            }
+        }
+
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        if (channel.size() > validLength) {
+            logger.warning("Discarding " + (channel.size() - validLength) + " unreadable bytes at the end of "
+                    + path.getFileName());
+            channel.truncate(validLength);
+        }
+        channel.position(validLength);
+        baselineCount = recordCount;
+    }
+
+    long[] append(List<byte[]> frames) throws IOException {
+        if (channel == null) {
+            throw new IOException(path.getFileName() + " is not open");
+        }
+
+        long[] offsets = new long[frames.size()];
+        long position = channel.position();
+        int size = 0;
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = position + size;
+            size += frames.get(i).length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        for (byte[] frame : frames) {
+            buffer.put(frame);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+        recordCount += frames.size();
+        return offsets;
+    }
+
+    LogRecord read(long offset) throws IOException {
+        if (channel == null) {
+            throw new IOException(path.getFileName() + " is not open");
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(LogRecord.HEADER_SIZE);
+        readFully(header, offset);
+        header.flip();
+        int length = header.getInt();
+        int checksum = header.getInt();
+        if (length <= 0 || length > LogRecord.MAX_PAYLOAD_SIZE) {
+            throw new IOException("Invalid record length " + length + " at " + offset + " in " + path.getFileName());
+        }
+
+        ByteBuffer payload = ByteBuffer.allocate(length);
+        readFully(payload, offset + LogRecord.HEADER_SIZE);
+        if (!LogRecord.verify(payload.array(), checksum)) {
+            throw new IOException("Checksum mismatch at " + offset + " in " + path.getFileName());
+        }
+        return LogRecord.decode(payload.array());
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Unexpected end of " + path.getFileName() + " at " + position);
+            }
+        }
+    }
+
+    boolean needsCompaction(int minRecords) {
+        return recordCount >= minRecords && recordCount >= baselineCount * 2;
+    }
+
+    long[] compact(List<byte[]> frames) throws IOException {
+        long[] offsets = new long[frames.size()];
+        long position = 0;
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < offsets.length; i++) {
+                byte[] frame = frames.get(i);
+                offsets[i] = position;
+                position += frame.length;
+                ByteBuffer buffer = ByteBuffer.wrap(frame);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+            }
+            out.force(true);
+        }
+
+        channel.close();
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        recordCount = frames.size();
+        baselineCount = recordCount;
+        return offsets;
+    }
+
+    void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
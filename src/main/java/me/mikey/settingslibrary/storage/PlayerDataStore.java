@@ -0,0 +1,540 @@
+package me.mikey.settingslibrary.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class PlayerDataStore {
+
+    private static final int SHARD_COUNT = 16;
+    private static final long FLUSH_DELAY_MILLIS = 1000L;
+    private static final int COMPACT_MIN_RECORDS = 4096;
+    private static final long LOAD_TIMEOUT_MILLIS = 5000L;
+    private static final long EVICTION_GRACE_MILLIS = 30_000L;
+    private static final int OFFLINE_CACHE_SIZE = 256;
+    private static final int LOAD_THREADS = 2;
+
+    private final Logger logger;
+    private final Path folder;
+    private final Map<UUID, RecordIndex> index;
+    private final Map<UUID, Map<String, String>> values;
+    private final Map<UUID, Map<String, String>> overlays;
+    private final Map<UUID, CompletableFuture<Map<String, String>>> loading;
+    private final Set<UUID> online;
+    private final Map<UUID, ScheduledFuture<?>> evictions;
+    private final Map<UUID, Boolean> offlineCache;
+    private final LogShard[] shards;
+    private final List<Queue<byte[]>> pending;
+    private final ScheduledThreadPoolExecutor executor;
+    private final ThreadPoolExecutor loader;
+    private final AtomicBoolean flushScheduled;
+
+    private volatile boolean open;
+    private volatile boolean closed;
+
+    public PlayerDataStore(Path folder, Logger logger) {
+        this.logger = logger;
+        this.folder = folder;
+        this.index = new ConcurrentHashMap<>();
+        this.values = new ConcurrentHashMap<>();
+        this.overlays = new HashMap<>();
+        this.loading = new ConcurrentHashMap<>();
+        this.online = ConcurrentHashMap.newKeySet();
+        this.evictions = new ConcurrentHashMap<>();
+        this.offlineCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                if (size() <= OFFLINE_CACHE_SIZE) {
+                    return false;
+                }
+                UUID playerId = eldest.getKey();
+                if (open) {
+                    executor.execute(() -> evict(playerId));
+                }
+                return true;
+            }
+        });
+        this.shards = new LogShard[SHARD_COUNT];
+        this.pending = new ArrayList<>(SHARD_COUNT);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new LogShard(folder.resolve(String.format("shard-%02d.log", i)), logger);
+            pending.add(new ConcurrentLinkedQueue<>());
+        }
+        this.flushScheduled = new AtomicBoolean();
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "SettingsLibrary-PlayerData");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.loader = new ThreadPoolExecutor(LOAD_THREADS, LOAD_THREADS, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "SettingsLibrary-PlayerData-Load");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void load() {
+        try {
+            Files.createDirectories(folder);
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Failed to create " + folder, e);
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        for (LogShard shard : shards) {
+            try {
+                shard.open((record, offset) ->
+                        index.computeIfAbsent(record.playerId(), k -> new RecordIndex()).add(offset));
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Failed to load player settings shard", e);
+            }
+        }
+        open = true;
+
+        logger.info("Indexed settings for " + index.size() + " player(s) in "
+                + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    public void prefetch(UUID playerId) {
+        if (!open) {
+            return;
+        }
+        if (!values.containsKey(playerId)) {
+            awaitLoad(playerId, LOAD_TIMEOUT_MILLIS);
+        }
+        if (!online.contains(playerId)) {
+            scheduleEviction(playerId);
+        }
+    }
+
+    public void markOnline(UUID playerId) {
+        online.add(playerId);
+        offlineCache.remove(playerId);
+        cancelEviction(playerId);
+        requestLoad(playerId);
+    }
+
+    public void markOffline(UUID playerId) {
+        online.remove(playerId);
+        scheduleEviction(playerId);
+    }
+
+    public boolean isLoaded(UUID playerId) {
+        return values.containsKey(playerId);
+    }
+
+    public CompletableFuture<Void> loadAsync(UUID playerId) {
+        return requestLoad(playerId).thenApply(settings -> null);
+    }
+
+    public String get(UUID playerId, String key) {
+        return cached(playerId).get(key);
+    }
+
+    public Map<String, String> getAll(UUID playerId) {
+        return Collections.unmodifiableMap(cached(playerId));
+    }
+
+    public void put(UUID playerId, String key, String value) {
+        if (value == null) {
+            remove(playerId, key);
+            return;
+        }
+        if (rejectClosed(playerId, key)) {
+            return;
+        }
+
+        while (true) {
+            Map<String, String> settings = values.get(playerId);
+            if (settings == null) {
+                if (writeOverlay(playerId, key, value)) {
+                    return;
+                }
+                continue;
+            }
+            synchronized (settings) {
+                if (values.get(playerId) != settings) {
+                    continue;
+                }
+                String previous = settings.put(key, value);
+                if (!value.equals(previous)) {
+                    enqueue(new LogRecord(playerId, key, value));
+                }
+                return;
+            }
+        }
+    }
+
+    public boolean toggle(UUID playerId, String key, boolean defaultValue) {
+        if (closed) {
+            throw new IllegalStateException("Cannot toggle '" + key + "' for " + playerId
+                    + " after player settings were closed");
+        }
+
+        while (true) {
+            Map<String, String> settings = cached(playerId);
+            synchronized (settings) {
+                if (values.get(playerId) != settings) {
+                    continue;
+                }
+                String previous = settings.get(key);
+                boolean toggled = !(previous != null ? Boolean.parseBoolean(previous) : defaultValue);
+                String value = Boolean.toString(toggled);
+                settings.put(key, value);
+                if (!value.equals(previous)) {
+                    enqueue(new LogRecord(playerId, key, value));
+                }
+                return toggled;
+            }
+        }
+    }
+
+    public void remove(UUID playerId, String key) {
+        if (rejectClosed(playerId, key)) {
+            return;
+        }
+
+        while (true) {
+            Map<String, String> settings = values.get(playerId);
+            if (settings == null) {
+                if (writeOverlay(playerId, key, null)) {
+                    return;
+                }
+                continue;
+            }
+            synchronized (settings) {
+                if (values.get(playerId) != settings) {
+                    continue;
+                }
+                if (settings.remove(key) != null) {
+                    enqueue(new LogRecord(playerId, key, null));
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean rejectClosed(UUID playerId, String key) {
+        if (closed) {
+            logger.warning("Ignoring write to '" + key + "' for " + playerId + " after player settings were closed");
+        }
+        return closed;
+    }
+
+    private boolean writeOverlay(UUID playerId, String key, String value) {
+        synchronized (overlays) {
+            if (values.containsKey(playerId)) {
+                return false;
+            }
+            overlays.computeIfAbsent(playerId, k -> new HashMap<>()).put(key, value);
+            enqueue(new LogRecord(playerId, key, value));
+        }
+        requestLoad(playerId);
+        return true;
+    }
+
+    private Map<String, String> cached(UUID playerId) {
+        if (!online.contains(playerId)) {
+            offlineCache.put(playerId, Boolean.TRUE);
+        }
+        Map<String, String> settings = values.get(playerId);
+        if (settings == null) {
+            settings = awaitLoad(playerId, LOAD_TIMEOUT_MILLIS);
+        }
+        if (settings == null) {
+            throw new IllegalStateException("Settings for " + playerId + " could not be loaded");
+        }
+        return settings;
+    }
+
+    private CompletableFuture<Map<String, String>> requestLoad(UUID playerId) {
+        Map<String, String> settings = values.get(playerId);
+        if (settings != null || !open) {
+            return CompletableFuture.completedFuture(settings);
+        }
+
+        CompletableFuture<Map<String, String>> future = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> existing = loading.putIfAbsent(playerId, future);
+        if (existing != null) {
+            return existing;
+        }
+        try {
+            loader.execute(() -> {
+                try {
+                    future.complete(loadNow(playerId));
+                } catch (UncheckedIOException e) {
+                    logger.log(Level.SEVERE, "Failed to load settings for " + playerId, e.getCause());
+                    future.complete(null);
+                } finally {
+                    loading.remove(playerId, future);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loading.remove(playerId, future);
+            future.complete(values.get(playerId));
+        }
+        return future;
+    }
+
+    private Map<String, String> awaitLoad(UUID playerId, long timeoutMillis) {
+        try {
+            return requestLoad(playerId).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warning("Timed out loading settings for " + playerId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "Failed to load settings for " + playerId, e.getCause());
+        }
+        return null;
+    }
+
+    private Map<String, String> loadNow(UUID playerId) {
+        Map<String, String> settings = values.get(playerId);
+        if (settings != null) {
+            return settings;
+        }
+
+        int shard = shardOf(playerId);
+        settings = new ConcurrentHashMap<>();
+        synchronized (shards[shard]) {
+            flushShard(shard);
+            RecordIndex records = index.get(playerId);
+            if (records != null) {
+                try {
+                    for (int i = 0; i < records.size; i++) {
+                        LogRecord record = shards[shard].read(records.offsets[i]);
+                        if (record.isRemoval()) {
+                            settings.remove(record.key());
+                        } else {
+                            settings.put(record.key(), record.value());
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+
+        synchronized (overlays) {
+            Map<String, String> overlay = overlays.remove(playerId);
+            if (overlay != null) {
+                for (Map.Entry<String, String> entry : overlay.entrySet()) {
+                    if (entry.getValue() == null) {
+                        settings.remove(entry.getKey());
+                    } else {
+                        settings.put(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+            values.put(playerId, settings);
+        }
+        return settings;
+    }
+
+    private void scheduleEviction(UUID playerId) {
+        if (!open) {
+            return;
+        }
+        ScheduledFuture<?> eviction = executor.schedule(() -> evict(playerId),
+                EVICTION_GRACE_MILLIS, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = evictions.put(playerId, eviction);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+
+    private void cancelEviction(UUID playerId) {
+        ScheduledFuture<?> eviction = evictions.remove(playerId);
+        if (eviction != null) {
+            eviction.cancel(false);
+        }
+    }
+
+    private void evict(UUID playerId) {
+        evictions.remove(playerId);
+        if (online.contains(playerId)) {
+            return;
+        }
+        Map<String, String> settings = values.get(playerId);
+        if (settings == null) {
+            return;
+        }
+
+        flushShard(shardOf(playerId));
+        synchronized (settings) {
+            values.remove(playerId, settings);
+        }
+    }
+
+    private void enqueue(LogRecord record) {
+        pending.get(shardOf(record.playerId())).add(record.encode());
+
+        if (open && flushScheduled.compareAndSet(false, true)) {
+            executor.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            flushShard(i);
+        }
+    }
+
+    private void flushShard(int shard) {
+        Queue<byte[]> queue = pending.get(shard);
+        if (queue.isEmpty()) {
+            return;
+        }
+
+        synchronized (shards[shard]) {
+            List<byte[]> frames = new ArrayList<>();
+            byte[] frame;
+            while ((frame = queue.poll()) != null) {
+                frames.add(frame);
+            }
+            if (frames.isEmpty()) {
+                return;
+            }
+
+            try {
+                long[] offsets = shards[shard].append(frames);
+                for (int i = 0; i < offsets.length; i++) {
+                    index.computeIfAbsent(LogRecord.playerIdOf(frames.get(i)), k -> new RecordIndex())
+                            .add(offsets[i]);
+                }
+                if (shards[shard].needsCompaction(COMPACT_MIN_RECORDS)) {
+                    compact(shard);
+                }
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Failed to write player settings shard " + shard, e);
+            }
+        }
+    }
+
+    private void compact(int shard) throws IOException {
+        List<UUID> players = new ArrayList<>();
+        List<byte[]> frames = new ArrayList<>();
+        for (Map.Entry<UUID, RecordIndex> entry : index.entrySet()) {
+            UUID playerId = entry.getKey();
+            if (shardOf(playerId) != shard) {
+                continue;
+            }
+
+            Map<String, String> settings = values.get(playerId);
+            if (settings != null) {
+                synchronized (settings) {
+                    settings = new HashMap<>(settings);
+                }
+            } else {
+                settings = new HashMap<>();
+                RecordIndex records = entry.getValue();
+                for (int i = 0; i < records.size; i++) {
+                    LogRecord record = shards[shard].read(records.offsets[i]);
+                    if (record.isRemoval()) {
+                        settings.remove(record.key());
+                    } else {
+                        settings.put(record.key(), record.value());
+                    }
+                }
+            }
+
+            for (Map.Entry<String, String> setting : settings.entrySet()) {
+                players.add(playerId);
+                frames.add(new LogRecord(playerId, setting.getKey(), setting.getValue()).encode());
+            }
+        }
+
+        long[] offsets = shards[shard].compact(frames);
+        index.keySet().removeIf(playerId -> shardOf(playerId) == shard);
+        for (int i = 0; i < offsets.length; i++) {
+            index.computeIfAbsent(players.get(i), k -> new RecordIndex()).add(offsets[i]);
+        }
+    }
+
+    public boolean flushNow(long timeout, TimeUnit unit) {
+        if (executor.isShutdown()) {
+            return true;
+        }
+        try {
+            executor.submit(this::flush).get(timeout, unit);
+            return true;
+        } catch (TimeoutException e) {
+            logger.warning("Timed out waiting for player settings to be written");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "Failed to write player settings", e.getCause());
+        }
+        return false;
+    }
+
+    public void shutdown(long timeout, TimeUnit unit) {
+        open = false;
+        closed = true;
+        loader.shutdown();
+        try {
+            if (!loader.awaitTermination(timeout, unit)) {
+                logger.warning("Timed out waiting for player settings to finish loading");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        executor.execute(this::flush);
+        executor.execute(() -> {
+            for (LogShard shard : shards) {
+                try {
+                    synchronized (shard) {
+                        shard.close();
+                    }
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Failed to close player settings shard", e);
+                }
+            }
+        });
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeout, unit)) {
+                logger.warning("Timed out waiting for player settings to be written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPlayerCount() {
+        return index.size();
+    }
+
+    public int getLoadedCount() {
+        return values.size();
+    }
+
+    private static int shardOf(UUID playerId) {
+        return (playerId.hashCode() & Integer.MAX_VALUE) % SHARD_COUNT;
+    }
+
+    private static final class RecordIndex {
+
+        private long[] offsets = new long[4];
+        private int size;
+
+        void add(long offset) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            offsets[size++] = offset;
+        }
+    }
+}
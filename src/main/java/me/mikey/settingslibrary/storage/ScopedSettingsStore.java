@@ -0,0 +1,130 @@
+package me.mikey.settingslibrary.storage;
+
+import me.mikey.settingslibrary.api.PlayerSettingsStore;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+public class ScopedSettingsStore implements PlayerSettingsStore {
+
+    private static final int MAX_KEY_LENGTH = 256;
+    private static final int MAX_VALUE_LENGTH = 16384;
+
+    private final PlayerDataStore store;
+    private final String namespace;
+
+    public ScopedSettingsStore(PlayerDataStore store, String namespace) {
+        this.store = store;
+        this.namespace = namespace.toLowerCase().replace(" ", "-") + ":";
+    }
+
+    @Override
+    public boolean isLoaded(UUID playerId) {
+        return store.isLoaded(playerId);
+    }
+
+    @Override
+    public CompletableFuture<Void> load(UUID playerId) {
+        return store.loadAsync(playerId);
+    }
+
+    @Override
+    public Optional<String> get(UUID playerId, String key) {
+        return Optional.ofNullable(store.get(playerId, qualify(key)));
+    }
+
+    @Override
+    public String getString(UUID playerId, String key, String defaultValue) {
+        String value = store.get(playerId, qualify(key));
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public boolean getBoolean(UUID playerId, String key, boolean defaultValue) {
+        String value = store.get(playerId, qualify(key));
+        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+    }
+
+    @Override
+    public int getInt(UUID playerId, String key, int defaultValue) {
+        String value = store.get(playerId, qualify(key));
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public double getDouble(UUID playerId, String key, double defaultValue) {
+        String value = store.get(playerId, qualify(key));
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    @Override
+    public void set(UUID playerId, String key, String value) {
+        if (value != null && value.length() > MAX_VALUE_LENGTH) {
+            throw new IllegalArgumentException("Value for '" + key + "' is longer than " + MAX_VALUE_LENGTH);
+        }
+        store.put(playerId, qualify(key), value);
+    }
+
+    @Override
+    public void setBoolean(UUID playerId, String key, boolean value) {
+        store.put(playerId, qualify(key), Boolean.toString(value));
+    }
+
+    @Override
+    public void setInt(UUID playerId, String key, int value) {
+        store.put(playerId, qualify(key), Integer.toString(value));
+    }
+
+    @Override
+    public void setDouble(UUID playerId, String key, double value) {
+        store.put(playerId, qualify(key), Double.toString(value));
+    }
+
+    @Override
+    public boolean toggle(UUID playerId, String key, boolean defaultValue) {
+        return store.toggle(playerId, qualify(key), defaultValue);
+    }
+
+    @Override
+    public void remove(UUID playerId, String key) {
+        store.remove(playerId, qualify(key));
+    }
+
+    @Override
+    public Map<String, String> getAll(UUID playerId) {
+        Map<String, String> scoped = new HashMap<>();
+        for (Map.Entry<String, String> entry : store.getAll(playerId).entrySet()) {
+            if (entry.getKey().startsWith(namespace)) {
+                scoped.put(entry.getKey().substring(namespace.length()), entry.getValue());
+            }
+        }
+        return scoped;
+    }
+
+    private String qualify(String key) {
+        if (key == null || key.isEmpty()) {
+            throw new IllegalArgumentException("Setting key cannot be null or empty");
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Setting key '" + key + "' is longer than " + MAX_KEY_LENGTH);
+        }
+        return namespace + key;
+    }
+}
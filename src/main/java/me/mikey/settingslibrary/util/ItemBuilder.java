@@ -13,7 +13,6 @@ import org.bukkit.inventory.meta.SkullMeta;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class ItemBuilder {
 
@@ -46,9 +45,10 @@ public class ItemBuilder {
 
     public ItemBuilder lore(List<String> lore) {
         if (meta != null) {
-            List<String> colorized = lore.stream()
-                    .map(ConfigManager::colorize)
-                    .collect(Collectors.toList());
+            List<String> colorized = new ArrayList<>(lore.size());
+            for (String line : lore) {
+                colorized.add(ConfigManager.colorize(line));
+            }
             meta.setLore(colorized);
         }
         return this;
@@ -133,6 +133,11 @@ public class ItemBuilder {
         return item;
     }
 
+    public ItemTemplate freeze() {
+        item.setItemMeta(meta);
+        return ItemTemplate.of(item);
+    }
+
     public static ItemBuilder of(Material material) {
         return new ItemBuilder(material);
     }
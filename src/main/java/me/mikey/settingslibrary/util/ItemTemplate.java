@@ -0,0 +1,66 @@
+package me.mikey.settingslibrary.util;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public final class ItemTemplate {
+
+    private static final Map<ItemStack, WeakReference<ItemTemplate>> INTERNED = new WeakHashMap<>();
+
+    private final ItemStack item;
+    private final int hash;
+
+    private ItemTemplate(ItemStack item) {
+        this.item = item;
+        this.hash = item.hashCode();
+    }
+
+    public static ItemTemplate of(ItemStack item) {
+        if (item == null) {
+            throw new IllegalArgumentException("Item cannot be null");
+        }
+
+        synchronized (INTERNED) {
+            WeakReference<ItemTemplate> reference = INTERNED.get(item);
+            ItemTemplate template = reference != null ? reference.get() : null;
+            if (template == null) {
+                template = new ItemTemplate(item.clone());
+                INTERNED.put(template.item, new WeakReference<>(template));
+            }
+            return template;
+        }
+    }
+
+    public ItemStack create() {
+        return item.clone();
+    }
+
+    /**
+     * Returns the interned backing stack, which is shared by every equal template and keys the intern pool.
+     * It must never be mutated; use {@link #create()} for a copy that can be modified or handed to other code.
+     */
+    public ItemStack shared() {
+        return item;
+    }
+
+    public Material getType() {
+        return item.getType();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        return other instanceof ItemTemplate template && hash == template.hash && item.equals(template.item);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
@@ -0,0 +1,39 @@
+package me.mikey.settingslibrary.util;
+
+public final class PlaceholderParser {
+
+    private PlaceholderParser() {
+    }
+
+    public static void parse(String text, Handler handler) {
+        int index = 0;
+        while (index < text.length()) {
+            int open = text.indexOf('{', index);
+            int close = open < 0 ? -1 : text.indexOf('}', open + 1);
+            if (open < 0 || close < 0) {
+                handler.literal(text.substring(index));
+                return;
+            }
+
+            String key = text.substring(open + 1, close);
+            if (key.isEmpty() || key.indexOf('{') >= 0 || key.indexOf(' ') >= 0) {
+                handler.literal(text.substring(index, open + 1));
+                index = open + 1;
+                continue;
+            }
+
+            if (open > index) {
+                handler.literal(text.substring(index, open));
+            }
+            handler.placeholder(key);
+            index = close + 1;
+        }
+    }
+
+    public interface Handler {
+
+        void literal(String text);
+
+        void placeholder(String key);
+    }
+}
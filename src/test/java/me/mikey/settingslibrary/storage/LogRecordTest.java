@@ -0,0 +1,59 @@
+package me.mikey.settingslibrary.storage;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRecordTest {
+
+    private static final UUID PLAYER = UUID.fromString("8667ba71-b85a-4004-af54-457a9734eed7");
+
+    @Test
+    void putRecordRoundTrips() throws IOException {
+        LogRecord record = new LogRecord(PLAYER, "myplugin:particles", "false");
+
+        assertEquals(record, decode(record.encode()));
+    }
+
+    @Test
+    void removalRoundTrips() throws IOException {
+        LogRecord record = new LogRecord(PLAYER, "myplugin:particles", null);
+
+        LogRecord decoded = decode(record.encode());
+        assertEquals(record, decoded);
+        assertTrue(decoded.isRemoval());
+    }
+
+    @Test
+    void frameHeaderDescribesPayload() {
+        byte[] frame = new LogRecord(PLAYER, "key", "value").encode();
+        ByteBuffer header = ByteBuffer.wrap(frame);
+
+        assertEquals(frame.length - LogRecord.HEADER_SIZE, header.getInt());
+        assertTrue(LogRecord.verify(payload(frame), header.getInt()));
+        assertEquals(PLAYER, LogRecord.playerIdOf(frame));
+    }
+
+    @Test
+    void corruptedPayloadFailsVerification() {
+        byte[] frame = new LogRecord(PLAYER, "key", "value").encode();
+        int checksum = ByteBuffer.wrap(frame).getInt(Integer.BYTES);
+        byte[] payload = payload(frame);
+        payload[payload.length - 1] ^= 0x01;
+
+        assertFalse(LogRecord.verify(payload, checksum));
+    }
+
+    private static LogRecord decode(byte[] frame) throws IOException {
+        return LogRecord.decode(payload(frame));
+    }
+
+    private static byte[] payload(byte[] frame) {
+        return Arrays.copyOfRange(frame, LogRecord.HEADER_SIZE, frame.length);
+    }
+}
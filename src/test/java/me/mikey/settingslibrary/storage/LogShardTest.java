@@ -0,0 +1,139 @@
+package me.mikey.settingslibrary.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogShardTest {
+
+    private static final UUID PLAYER = UUID.fromString("8667ba71-b85a-4004-af54-457a9734eed7");
+    private static final Logger LOGGER = Logger.getLogger("LogShardTest");
+
+    @TempDir
+    Path folder;
+
+    private LogShard shard;
+
+    @AfterEach
+    void close() throws IOException {
+        if (shard != null) {
+            shard.close();
+        }
+    }
+
+    @Test
+    void appendedRecordsReplayInOrder() throws IOException {
+        Path file = folder.resolve("shard.log");
+        shard = open(file, new ArrayList<>());
+        long[] offsets = shard.append(List.of(frame("a", "1"), frame("b", "2"), frame("a", null)));
+        shard.close();
+
+        List<LogRecord> replayed = new ArrayList<>();
+        shard = open(file, replayed);
+
+        assertEquals(List.of(record("a", "1"), record("b", "2"), record("a", null)), replayed);
+        assertEquals(record("b", "2"), shard.read(offsets[1]));
+    }
+
+    @Test
+    void truncatedTailIsDiscardedAndShardStaysAppendable() throws IOException {
+        Path file = folder.resolve("shard.log");
+        shard = open(file, new ArrayList<>());
+        shard.append(List.of(frame("a", "1"), frame("b", "2")));
+        shard.close();
+
+        long validLength = Files.size(file);
+        byte[] torn = frame("c", "3");
+        Files.write(file, Arrays.copyOf(torn, torn.length / 2), StandardOpenOption.APPEND);
+
+        List<LogRecord> replayed = new ArrayList<>();
+        shard = open(file, replayed);
+        assertEquals(List.of(record("a", "1"), record("b", "2")), replayed);
+        assertEquals(validLength, Files.size(file));
+
+        shard.append(List.of(frame("d", "4")));
+        shard.close();
+
+        replayed.clear();
+        shard = open(file, replayed);
+        assertEquals(List.of(record("a", "1"), record("b", "2"), record("d", "4")), replayed);
+    }
+
+    @Test
+    void corruptTailIsDiscarded() throws IOException {
+        Path file = folder.resolve("shard.log");
+        shard = open(file, new ArrayList<>());
+        shard.append(List.of(frame("a", "1"), frame("b", "2")));
+        shard.close();
+
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+
+        List<LogRecord> replayed = new ArrayList<>();
+        shard = open(file, replayed);
+
+        assertEquals(List.of(record("a", "1")), replayed);
+    }
+
+    @Test
+    void compactionReplacesContentsAndReturnsNewOffsets() throws IOException {
+        Path file = folder.resolve("shard.log");
+        shard = open(file, new ArrayList<>());
+        shard.append(List.of(frame("a", "1"), frame("a", "2"), frame("b", "3"), frame("b", null)));
+
+        long[] offsets = shard.compact(List.of(frame("a", "2")));
+        assertEquals(record("a", "2"), shard.read(offsets[0]));
+
+        shard.append(List.of(frame("c", "4")));
+        shard.close();
+
+        List<LogRecord> replayed = new ArrayList<>();
+        shard = open(file, replayed);
+        assertEquals(List.of(record("a", "2"), record("c", "4")), replayed);
+        assertFalse(Files.exists(folder.resolve("shard.log.tmp")));
+    }
+
+    @Test
+    void needsCompactionOnceShardDoublesSinceLastCompaction() throws IOException {
+        shard = open(folder.resolve("shard.log"), new ArrayList<>());
+        List<byte[]> frames = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            frames.add(frame("a", Integer.toString(i)));
+        }
+        shard.append(frames);
+        assertTrue(shard.needsCompaction(8));
+
+        shard.compact(List.of(frame("a", "7")));
+        assertFalse(shard.needsCompaction(1));
+
+        shard.append(List.of(frame("a", "8")));
+        assertTrue(shard.needsCompaction(1));
+    }
+
+    private LogShard open(Path file, List<LogRecord> replayed) throws IOException {
+        LogShard opened = new LogShard(file, LOGGER);
+        opened.open((record, offset) -> replayed.add(record));
+        return opened;
+    }
+
+    private static byte[] frame(String key, String value) {
+        return record(key, value).encode();
+    }
+
+    private static LogRecord record(String key, String value) {
+        return new LogRecord(PLAYER, key, value);
+    }
+}
@@ -0,0 +1,195 @@
+package me.mikey.settingslibrary.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlayerDataStoreTest {
+
+    private static final UUID PLAYER = UUID.fromString("8667ba71-b85a-4004-af54-457a9734eed7");
+    private static final Logger LOGGER = Logger.getLogger("PlayerDataStoreTest");
+
+    @TempDir
+    Path folder;
+
+    private PlayerDataStore store;
+
+    @AfterEach
+    void close() {
+        if (store != null) {
+            store.shutdown(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void valuesSurviveReopen() {
+        store = open();
+        store.prefetch(PLAYER);
+        store.put(PLAYER, "particles", "false");
+        store.put(PLAYER, "chat", "true");
+        reopen();
+
+        store.prefetch(PLAYER);
+        assertEquals(Map.of("particles", "false", "chat", "true"), store.getAll(PLAYER));
+    }
+
+    @Test
+    void removalSurvivesReopen() {
+        store = open();
+        store.prefetch(PLAYER);
+        store.put(PLAYER, "particles", "false");
+        assertTrue(store.flushNow(5, TimeUnit.SECONDS));
+        store.remove(PLAYER, "particles");
+        reopen();
+
+        store.prefetch(PLAYER);
+        assertNull(store.get(PLAYER, "particles"));
+        assertTrue(store.getAll(PLAYER).isEmpty());
+    }
+
+    @Test
+    void compactionKeepsLatestValuePerKey() throws IOException {
+        store = open();
+        store.prefetch(PLAYER);
+        for (int i = 0; i < 5000; i++) {
+            store.put(PLAYER, "counter", Integer.toString(i));
+        }
+        store.put(PLAYER, "chat", "true");
+        assertTrue(store.flushNow(5, TimeUnit.SECONDS));
+
+        assertTrue(logSize() < 1024, "shard was not compacted: " + logSize() + " bytes");
+
+        reopen();
+        store.prefetch(PLAYER);
+        assertEquals(Map.of("counter", "4999", "chat", "true"), store.getAll(PLAYER));
+    }
+
+    @Test
+    void readsOfUnloadedPlayerReturnStoredValues() {
+        store = open();
+        store.prefetch(PLAYER);
+        store.put(PLAYER, "particles", "false");
+        reopen();
+
+        assertFalse(store.isLoaded(PLAYER));
+        assertEquals("false", store.get(PLAYER, "particles"));
+        assertEquals(Map.of("particles", "false"), store.getAll(PLAYER));
+    }
+
+    @Test
+    void loadAsyncCompletesOnceLoaded() throws Exception {
+        store = open();
+        store.prefetch(PLAYER);
+        store.put(PLAYER, "particles", "false");
+        reopen();
+
+        store.loadAsync(PLAYER).get(5, TimeUnit.SECONDS);
+        assertTrue(store.isLoaded(PLAYER));
+    }
+
+    @Test
+    void writesBeforeLoadAreMergedOverStoredValues() {
+        store = open();
+        store.prefetch(PLAYER);
+        store.put(PLAYER, "particles", "false");
+        store.put(PLAYER, "chat", "true");
+        reopen();
+
+        store.put(PLAYER, "particles", "true");
+        store.remove(PLAYER, "chat");
+        assertEquals("true", store.get(PLAYER, "particles"));
+        assertNull(store.get(PLAYER, "chat"));
+
+        store.prefetch(PLAYER);
+        assertTrue(store.isLoaded(PLAYER));
+        assertEquals(Map.of("particles", "true"), store.getAll(PLAYER));
+
+        reopen();
+        store.prefetch(PLAYER);
+        assertEquals(Map.of("particles", "true"), store.getAll(PLAYER));
+    }
+
+    @Test
+    void toggleOfUnloadedPlayerFlipsStoredValue() {
+        store = open();
+        ScopedSettingsStore settings = new ScopedSettingsStore(store, "MyPlugin");
+        store.prefetch(PLAYER);
+        settings.setBoolean(PLAYER, "particles", true);
+        reopen();
+        settings = new ScopedSettingsStore(store, "MyPlugin");
+
+        assertFalse(store.isLoaded(PLAYER));
+        assertFalse(settings.toggle(PLAYER, "particles", true));
+        reopen();
+
+        store.prefetch(PLAYER);
+        assertEquals("false", store.get(PLAYER, "myplugin:particles"));
+    }
+
+    @Test
+    void concurrentTogglesAreNotLost() throws Exception {
+        store = open();
+        store.prefetch(PLAYER);
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 1001; j++) {
+                    store.toggle(PLAYER, "particles", false);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals("false", store.get(PLAYER, "particles"));
+    }
+
+    @Test
+    void writesAfterShutdownAreIgnored() {
+        store = open();
+        store.prefetch(PLAYER);
+        store.put(PLAYER, "particles", "false");
+        store.shutdown(5, TimeUnit.SECONDS);
+
+        assertDoesNotThrow(() -> store.put(PLAYER, "particles", "true"));
+        assertDoesNotThrow(() -> store.remove(PLAYER, "particles"));
+
+        store = open();
+        store.prefetch(PLAYER);
+        assertEquals("false", store.get(PLAYER, "particles"));
+    }
+
+    private PlayerDataStore open() {
+        PlayerDataStore opened = new PlayerDataStore(folder, LOGGER);
+        opened.load();
+        return opened;
+    }
+
+    private void reopen() {
+        store.shutdown(5, TimeUnit.SECONDS);
+        store = open();
+    }
+
+    private long logSize() throws IOException {
+        long size = 0;
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                size += Files.size(file);
+            }
+        }
+        return size;
+    }
+}